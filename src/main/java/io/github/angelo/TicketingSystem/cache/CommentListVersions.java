@@ -0,0 +1,55 @@
+package io.github.angelo.TicketingSystem.cache;
+
+import io.github.angelo.TicketingSystem.event.CommentEvent;
+import io.github.angelo.TicketingSystem.event.TicketEvent;
+import io.github.angelo.TicketingSystem.event.UserEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versões em memória usadas nos ETags de comentários. Cada chamado guarda o número do último
+ * CommentEvent que o afetou, e a geração avança quando muda um usuário, cujos dados vão embutidos
+ * como autor. Ambos são atualizados após o commit, sem consultar o banco a cada GET.
+ */
+@Component
+public class CommentListVersions {
+
+    // Começam no relógio para não repetir valores de uma execução anterior
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis());
+    private final AtomicLong generation = new AtomicLong(System.currentTimeMillis());
+
+    // Chamados sem comentários alterados desde a inicialização não têm entrada
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public long getListVersion(Long ticketId) {
+        return versions.getOrDefault(ticketId, 0L);
+    }
+
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    @TransactionalEventListener
+    public void onCommentEvent(CommentEvent event) {
+        versions.put(event.getTicketId(), sequence.incrementAndGet());
+    }
+
+    // Os comentários do chamado removido saem junto; a entrada não é mais consultada
+    @TransactionalEventListener
+    public void onTicketEvent(TicketEvent event) {
+        if (event.getType() == TicketEvent.Type.DELETED) {
+            versions.remove(event.getTicketId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserEvent(UserEvent event) {
+        if (event.getType() != UserEvent.Type.CREATED) {
+            generation.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package io.github.angelo.TicketingSystem.cache;
+
+import io.github.angelo.TicketingSystem.event.ReferenceDataChangedEvent;
+import io.github.angelo.TicketingSystem.model.Category;
+import io.github.angelo.TicketingSystem.model.Priority;
+import io.github.angelo.TicketingSystem.model.Status;
+import io.github.angelo.TicketingSystem.repository.CategoryRepository;
+import io.github.angelo.TicketingSystem.repository.PriorityRepository;
+import io.github.angelo.TicketingSystem.repository.StatusRepository;
+import io.github.angelo.TicketingSystem.util.ETags;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Cache em memória de Status, Priority e Category. Cada leitura usa um snapshot imutável;
+ * a cada alteração confirmada um novo snapshot é carregado e trocado atomicamente.
+ *
+ * As entidades guardadas são cópias desanexadas (apenas id e colunas simples), seguras para
+ * compartilhar entre threads e usar como referência em associações @ManyToOne.
+ * Cada snapshot também guarda o ETag de cada lista, servido sem consultar o banco.
+ */
+@Slf4j
+@Component
+public class ReferenceDataCache {
+
+    private final StatusRepository statusRepository;
+    private final PriorityRepository priorityRepository;
+    private final CategoryRepository categoryRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+    private final Map<ReferenceDataChangedEvent.Type, Counter> hits = new EnumMap<>(ReferenceDataChangedEvent.Type.class);
+    private final Map<ReferenceDataChangedEvent.Type, Counter> misses = new EnumMap<>(ReferenceDataChangedEvent.Type.class);
+
+    public ReferenceDataCache(StatusRepository statusRepository,
+                              PriorityRepository priorityRepository,
+                              CategoryRepository categoryRepository,
+                              MeterRegistry meterRegistry) {
+        this.statusRepository = statusRepository;
+        this.priorityRepository = priorityRepository;
+        this.categoryRepository = categoryRepository;
+
+        for (ReferenceDataChangedEvent.Type type : ReferenceDataChangedEvent.Type.values()) {
+            String entity = type.name().toLowerCase(Locale.ROOT);
+            hits.put(type, Counter.builder("reference.cache.lookups")
+                    .tag("entity", entity).tag("result", "hit")
+                    .register(meterRegistry));
+            misses.put(type, Counter.builder("reference.cache.lookups")
+                    .tag("entity", entity).tag("result", "miss")
+                    .register(meterRegistry));
+        }
+    }
+
+    @Value
+    private static class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), List.of(), Map.of(), List.of(),
+                Map.of(), List.of(), Map.of());
+
+        Map<Long, Status> statuses;
+        Map<String, Status> statusesByName;
+        List<Status> statusesInOrder;
+        Map<Long, Priority> priorities;
+        List<Priority> prioritiesInOrder;
+        Map<Long, Category> categories;
+        List<Category> categoriesInOrder;
+        Map<ReferenceDataChangedEvent.Type, String> etags;
+    }
+
+    /**
+     * Recargas são serializadas: uma recarga que começou depois de um commit lê dados pelo menos
+     * tão novos quanto ele e não pode ser sobrescrita por outra que leu as tabelas antes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void refresh() {
+        List<Status> statuses = statusRepository.findAll().stream()
+                .map(s -> Status.builder().id(s.getId()).name(s.getName()).build())
+                .sorted(Comparator.comparing(Status::getId))
+                .collect(Collectors.toList());
+        List<Priority> priorities = priorityRepository.findAll().stream()
+                .map(p -> Priority.builder().id(p.getId()).name(p.getName()).level(p.getLevel()).build())
+                .sorted(Comparator.comparing(Priority::getId))
+                .collect(Collectors.toList());
+        List<Category> categories = categoryRepository.findAll().stream()
+                .map(c -> Category.builder().id(c.getId()).name(c.getName()).description(c.getDescription()).build())
+                .sorted(Comparator.comparing(Category::getId))
+                .collect(Collectors.toList());
+
+        Map<ReferenceDataChangedEvent.Type, String> etags = new EnumMap<>(ReferenceDataChangedEvent.Type.class);
+        etags.put(ReferenceDataChangedEvent.Type.STATUS, ETags.strong(statuses.stream()
+                .flatMap(s -> Stream.of(s.getId(), s.getName())).toArray()));
+        etags.put(ReferenceDataChangedEvent.Type.PRIORITY, ETags.strong(priorities.stream()
+                .flatMap(p -> Stream.of(p.getId(), p.getName(), p.getLevel())).toArray()));
+        etags.put(ReferenceDataChangedEvent.Type.CATEGORY, ETags.strong(categories.stream()
+                .flatMap(c -> Stream.of(c.getId(), c.getName(), c.getDescription())).toArray()));
+
+        snapshot.set(new Snapshot(
+                statuses.stream().collect(Collectors.toUnmodifiableMap(Status::getId, Function.identity())),
+                statuses.stream().collect(Collectors.toUnmodifiableMap(Status::getName, Function.identity())),
+                List.copyOf(statuses),
+                priorities.stream().collect(Collectors.toUnmodifiableMap(Priority::getId, Function.identity())),
+                List.copyOf(priorities),
+                categories.stream().collect(Collectors.toUnmodifiableMap(Category::getId, Function.identity())),
+                List.copyOf(categories),
+                Collections.unmodifiableMap(etags)));
+        log.debug("Reference data cache refreshed: {} statuses, {} priorities, {} categories",
+                statuses.size(), priorities.size(), categories.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        refresh();
+    }
+
+    public Optional<Status> findStatus(Long id) {
+        return lookup(ReferenceDataChangedEvent.Type.STATUS, snapshot.get().getStatuses().get(id),
+                () -> statusRepository.existsById(id), () -> snapshot.get().getStatuses().get(id));
+    }
+
+    public Optional<Status> findStatusByName(String name) {
+        return lookup(ReferenceDataChangedEvent.Type.STATUS, snapshot.get().getStatusesByName().get(name),
+                () -> statusRepository.existsByName(name), () -> snapshot.get().getStatusesByName().get(name));
+    }
+
+    /**
+     * Primeiro status cadastrado (menor id), usado quando "Open" não existe.
+     */
+    public Optional<Status> findFirstStatus() {
+        List<Status> statuses = snapshot.get().getStatusesInOrder();
+        return lookup(ReferenceDataChangedEvent.Type.STATUS, statuses.isEmpty() ? null : statuses.get(0),
+                () -> statusRepository.count() > 0, () -> {
+                    List<Status> reloaded = snapshot.get().getStatusesInOrder();
+                    return reloaded.isEmpty() ? null : reloaded.get(0);
+                });
+    }
+
+    public Optional<Priority> findPriority(Long id) {
+        return lookup(ReferenceDataChangedEvent.Type.PRIORITY, snapshot.get().getPriorities().get(id),
+                () -> priorityRepository.existsById(id), () -> snapshot.get().getPriorities().get(id));
+    }
+
+    public Optional<Category> findCategory(Long id) {
+        return lookup(ReferenceDataChangedEvent.Type.CATEGORY, snapshot.get().getCategories().get(id),
+                () -> categoryRepository.existsById(id), () -> snapshot.get().getCategories().get(id));
+    }
+
+    // Listas completas ordenadas por id, na mesma ordem usada no cálculo do ETag
+    public List<Status> getStatuses() {
+        return snapshot.get().getStatusesInOrder();
+    }
+
+    public List<Priority> getPriorities() {
+        return snapshot.get().getPrioritiesInOrder();
+    }
+
+    public List<Category> getCategories() {
+        return snapshot.get().getCategoriesInOrder();
+    }
+
+    public String getETag(ReferenceDataChangedEvent.Type type) {
+        return snapshot.get().getEtags().get(type);
+    }
+
+    /**
+     * Em caso de miss confere no banco: se o registro existe (snapshot desatualizado ou ainda
+     * não carregado), recarrega o snapshot antes de responder.
+     */
+    private <T> Optional<T> lookup(ReferenceDataChangedEvent.Type type, T cached,
+                                   BooleanSupplier existsInDatabase,
+                                   Supplier<T> afterRefresh) {
+        if (cached != null) {
+            hits.get(type).increment();
+            return Optional.of(cached);
+        }
+        misses.get(type).increment();
+        if (!existsInDatabase.getAsBoolean()) {
+            return Optional.empty();
+        }
+        refresh();
+        return Optional.ofNullable(afterRefresh.get());
+    }
+}
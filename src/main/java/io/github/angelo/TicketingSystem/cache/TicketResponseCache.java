@@ -0,0 +1,84 @@
+package io.github.angelo.TicketingSystem.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.angelo.TicketingSystem.event.ReferenceDataChangedEvent;
+import io.github.angelo.TicketingSystem.event.TicketEvent;
+import io.github.angelo.TicketingSystem.event.UserEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * JSON já serializado de GET /api/tickets/{id}, limitado pelo total de bytes.
+ * Cada entrada guarda a versão (@Version) do ticket e a geração em que foi gerada, e só é
+ * servida se ambas ainda forem as atuais; além disso é descartada após o commit de qualquer
+ * escrita no ticket. Mudanças em usuários e dados de referência (nomes embutidos na resposta)
+ * limpam o cache inteiro e avançam a geração, que também entra nos ETags dessas respostas.
+ */
+@Component
+public class TicketResponseCache {
+
+    // Custo aproximado da entrada além do array de bytes
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    public record Entry(Long version, long generation, byte[] json) {
+    }
+
+    private final Cache<Long, Entry> cache;
+    // Começa no relógio para não repetir gerações de uma execução anterior
+    private final AtomicLong generation = new AtomicLong(System.currentTimeMillis());
+
+    public TicketResponseCache(@Value("${tickets.response-cache.max-bytes:16777216}") long maxBytes,
+                               MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, Entry entry) -> entry.json().length + ENTRY_OVERHEAD_BYTES)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "ticket.response");
+    }
+
+    /**
+     * A geração é lida antes de chamar o loader: se um usuário ou dado de referência mudar durante
+     * a serialização, a entrada gerada fica com a geração antiga e deixa de ser servida.
+     */
+    public Entry get(Long ticketId, Long version, LongFunction<Entry> loader) {
+        long currentGeneration = generation.get();
+        Entry entry = cache.getIfPresent(ticketId);
+        if (entry != null && entry.version().equals(version) && entry.generation() == currentGeneration) {
+            return entry;
+        }
+        Entry loaded = loader.apply(currentGeneration);
+        cache.put(ticketId, loaded);
+        return loaded;
+    }
+
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    @TransactionalEventListener
+    public void onTicketEvent(TicketEvent event) {
+        cache.invalidate(event.getTicketId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserEvent(UserEvent event) {
+        if (event.getType() != UserEvent.Type.CREATED) {
+            generation.incrementAndGet();
+            cache.invalidateAll();
+        }
+    }
+}
@@ -3,12 +3,19 @@ package io.github.angelo.TicketingSystem.controller;
 import io.github.angelo.TicketingSystem.dto.request.AttachmentRequest;
 import io.github.angelo.TicketingSystem.dto.response.AttachmentResponse;
 import io.github.angelo.TicketingSystem.service.AttachmentService;
+import io.github.angelo.TicketingSystem.storage.AttachmentContent;
+import io.github.angelo.TicketingSystem.storage.AttachmentContentSender;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -17,6 +24,7 @@ import java.util.List;
 public class AttachmentController {
 
     private final AttachmentService attachmentService;
+    private final AttachmentContentSender attachmentContentSender;
 
     @PostMapping
     public ResponseEntity<AttachmentResponse> createAttachment(@Valid @RequestBody AttachmentRequest request) {
@@ -24,6 +32,23 @@ public class AttachmentController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    // multipart/form-data com "ticketId" e "file"; o conteúdo é gravado no content store
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<AttachmentResponse> uploadAttachment(
+            @RequestParam Long ticketId,
+            @RequestPart("file") MultipartFile file) {
+        AttachmentResponse response = attachmentService.uploadAttachment(ticketId, file);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/{id}/content")
+    public void getAttachmentContent(@PathVariable Long id,
+                                     HttpServletRequest request,
+                                     HttpServletResponse response) throws IOException {
+        AttachmentContent content = attachmentService.getAttachmentContent(id);
+        attachmentContentSender.send(content, request, response);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<AttachmentResponse> getAttachmentById(@PathVariable Long id) {
         AttachmentResponse response = attachmentService.getAttachmentById(id);
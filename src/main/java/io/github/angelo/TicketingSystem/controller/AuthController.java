@@ -1,6 +1,7 @@
 package io.github.angelo.TicketingSystem.controller;
 
 import io.github.angelo.TicketingSystem.dto.request.LoginRequest;
+import io.github.angelo.TicketingSystem.dto.request.RefreshTokenRequest;
 import io.github.angelo.TicketingSystem.dto.request.RegisterRequest;
 import io.github.angelo.TicketingSystem.dto.response.AuthResponse;
 import io.github.angelo.TicketingSystem.service.AuthService;
@@ -28,4 +29,21 @@ public class AuthController {
         AuthResponse response = authService.login(request);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authService.refresh(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @Valid @RequestBody RefreshTokenRequest request,
+            @RequestHeader(value = "Authorization", required = false) String authorization) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        authService.logout(request, accessToken);
+        return ResponseEntity.noContent().build();
+    }
 }
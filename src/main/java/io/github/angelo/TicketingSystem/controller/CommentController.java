@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -25,13 +26,20 @@ public class CommentController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<CommentResponse> getCommentById(@PathVariable Long id) {
+    public ResponseEntity<CommentResponse> getCommentById(@PathVariable Long id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(commentService.getCommentETag(id))) {
+            return null;
+        }
         CommentResponse response = commentService.getCommentById(id);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/ticket/{ticketId}")
-    public ResponseEntity<List<CommentResponse>> getCommentsByTicket(@PathVariable Long ticketId) {
+    public ResponseEntity<List<CommentResponse>> getCommentsByTicket(@PathVariable Long ticketId,
+                                                                     WebRequest webRequest) {
+        if (webRequest.checkNotModified(commentService.getCommentsByTicketETag(ticketId))) {
+            return null;
+        }
         List<CommentResponse> responses = commentService.getCommentsByTicket(ticketId);
         return ResponseEntity.ok(responses);
     }
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -25,13 +26,19 @@ public class PriorityController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<PriorityResponse> getPriorityById(@PathVariable Long id) {
+    public ResponseEntity<PriorityResponse> getPriorityById(@PathVariable Long id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(priorityService.getPriorityETag(id))) {
+            return null;
+        }
         PriorityResponse response = priorityService.getPriorityById(id);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping
-    public ResponseEntity<List<PriorityResponse>> getAllPriorities() {
+    public ResponseEntity<List<PriorityResponse>> getAllPriorities(WebRequest webRequest) {
+        if (webRequest.checkNotModified(priorityService.getPrioritiesETag())) {
+            return null;
+        }
         List<PriorityResponse> responses = priorityService.getAllPriorities();
         return ResponseEntity.ok(responses);
     }
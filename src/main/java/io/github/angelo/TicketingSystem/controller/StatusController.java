@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -25,13 +26,20 @@ public class StatusController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<StatusResponse> getStatusById(@PathVariable Long id) {
+    public ResponseEntity<StatusResponse> getStatusById(@PathVariable Long id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(statusService.getStatusETag(id))) {
+            return null;
+        }
         StatusResponse response = statusService.getStatusById(id);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping
-    public ResponseEntity<List<StatusResponse>> getAllStatuses() {
+    public ResponseEntity<List<StatusResponse>> getAllStatuses(WebRequest webRequest) {
+        // 304 direto do ETag em memória, sem montar a lista
+        if (webRequest.checkNotModified(statusService.getStatusesETag())) {
+            return null;
+        }
         List<StatusResponse> responses = statusService.getAllStatuses();
         return ResponseEntity.ok(responses);
     }
@@ -1,16 +1,42 @@
 package io.github.angelo.TicketingSystem.controller;
 
+import io.github.angelo.TicketingSystem.dto.request.BulkStatusUpdateRequest;
+import io.github.angelo.TicketingSystem.dto.request.BulkTicketRequest;
 import io.github.angelo.TicketingSystem.dto.request.StatusUpdateRequest;
+import io.github.angelo.TicketingSystem.dto.request.TicketFacetRequest;
 import io.github.angelo.TicketingSystem.dto.request.TicketRequest;
+import io.github.angelo.TicketingSystem.dto.request.TicketSearchRequest;
+import io.github.angelo.TicketingSystem.dto.response.BulkStatusUpdateResponse;
+import io.github.angelo.TicketingSystem.dto.response.BulkTicketResponse;
+import io.github.angelo.TicketingSystem.dto.response.CursorPageResponse;
+import io.github.angelo.TicketingSystem.dto.response.PageResponse;
 import io.github.angelo.TicketingSystem.dto.response.StatusHistoryResponse;
+import io.github.angelo.TicketingSystem.dto.response.TicketChangesResponse;
+import io.github.angelo.TicketingSystem.dto.response.TicketFacetResponse;
 import io.github.angelo.TicketingSystem.dto.response.TicketResponse;
+import io.github.angelo.TicketingSystem.dto.response.TicketSearchHitResponse;
+import io.github.angelo.TicketingSystem.dto.response.TicketStatsResponse;
+import io.github.angelo.TicketingSystem.dto.response.TicketSummaryResponse;
+import io.github.angelo.TicketingSystem.dto.response.TimelineEntryResponse;
+import io.github.angelo.TicketingSystem.service.FacetSearchService;
+import io.github.angelo.TicketingSystem.service.FullTextSearchService;
+import io.github.angelo.TicketingSystem.service.TicketExportService;
 import io.github.angelo.TicketingSystem.service.TicketService;
+import io.github.angelo.TicketingSystem.service.TicketStatsService;
+import io.github.angelo.TicketingSystem.service.TicketTimelineService;
+import io.github.angelo.TicketingSystem.stream.TicketEventBus;
+import io.github.angelo.TicketingSystem.util.ETags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -19,6 +45,12 @@ import java.util.List;
 public class TicketController {
 
     private final TicketService ticketService;
+    private final FullTextSearchService fullTextSearchService;
+    private final FacetSearchService facetSearchService;
+    private final TicketTimelineService ticketTimelineService;
+    private final TicketExportService ticketExportService;
+    private final TicketStatsService ticketStatsService;
+    private final TicketEventBus ticketEventBus;
 
     @PostMapping
     public ResponseEntity<TicketResponse> createTicket(@Valid @RequestBody TicketRequest request) {
@@ -26,54 +58,167 @@ public class TicketController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<TicketResponse> getTicketById(@PathVariable Long id) {
-        TicketResponse response = ticketService.getTicketById(id);
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkTicketResponse> createTicketsBulk(@Valid @RequestBody BulkTicketRequest request) {
+        BulkTicketResponse response = ticketService.createTicketsBulk(request);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<TicketFacetResponse> getTicketFacets(@ModelAttribute TicketFacetRequest request) {
+        TicketFacetResponse response = facetSearchService.search(request);
         return ResponseEntity.ok(response);
     }
 
+    // Feed SSE das mudanças; Last-Event-ID (enviado pelo navegador ao reconectar) retoma de onde parou
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTicketEvents(
+            @RequestParam(required = false) Long assignedToId,
+            @RequestParam(required = false) Long statusId,
+            @RequestParam(required = false) Long categoryId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return ticketEventBus.subscribe(new TicketEventBus.Filter(assignedToId, statusId, categoryId), lastEventId);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<TicketStatsResponse> getTicketStats() {
+        TicketStatsResponse response = ticketStatsService.getStats();
+        return ResponseEntity.ok(response);
+    }
+
+    // Sincronização incremental: repita com a marca devolvida em "watermark" até hasMore = false
+    @GetMapping("/changes")
+    public ResponseEntity<TicketChangesResponse> getTicketChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit) {
+        TicketChangesResponse response = ticketService.getChanges(since, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    // Escreve no corpo da resposta à medida que as linhas são lidas do banco, fora da thread do Tomcat
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTickets(@RequestParam(defaultValue = "ndjson") String format) {
+        TicketExportService.Format exportFormat = TicketExportService.Format.from(format);
+        StreamingResponseBody body = ticketExportService.open(exportFormat);
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.parseMediaType(exportFormat.getContentType()), StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"tickets." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<byte[]> getTicketById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Uma leitura da versão pela chave primária: decide o 304 sem carregar o chamado e escolhe o JSON em cache
+        Long version = ticketService.getTicketVersion(id);
+        if (ifNoneMatch != null) {
+            String current = ticketService.getTicketETag(id, version);
+            if (ETags.matchesWeakly(ifNoneMatch, current)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(current).build();
+            }
+        }
+        TicketService.TicketJson response = ticketService.getTicketJson(id, version);
+        return ResponseEntity.ok()
+                .eTag(response.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.json());
+    }
+
     @GetMapping
-    public ResponseEntity<List<TicketResponse>> getAllTickets() {
-        List<TicketResponse> responses = ticketService.getAllTickets();
+    public ResponseEntity<CursorPageResponse<TicketSummaryResponse>> getAllTickets(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPageResponse<TicketSummaryResponse> responses = ticketService.getAllTickets(after, limit);
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<TicketSummaryResponse>> searchTickets(
+            @ModelAttribute TicketSearchRequest request) {
+        PageResponse<TicketSummaryResponse> responses = ticketService.searchTickets(request);
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping("/fulltext")
+    public ResponseEntity<List<TicketSearchHitResponse>> fullTextSearch(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<TicketSearchHitResponse> responses = fullTextSearchService.search(q, limit);
         return ResponseEntity.ok(responses);
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<TicketResponse>> getTicketsByUser(@PathVariable Long userId) {
-        List<TicketResponse> responses = ticketService.getTicketsByUser(userId);
+    public ResponseEntity<CursorPageResponse<TicketSummaryResponse>> getTicketsByUser(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPageResponse<TicketSummaryResponse> responses = ticketService.getTicketsByUser(userId, after, limit);
         return ResponseEntity.ok(responses);
     }
 
     @GetMapping("/assigned/{assignedToId}")
-    public ResponseEntity<List<TicketResponse>> getTicketsByAssignedUser(@PathVariable Long assignedToId) {
-        List<TicketResponse> responses = ticketService.getTicketsByAssignedUser(assignedToId);
+    public ResponseEntity<CursorPageResponse<TicketSummaryResponse>> getTicketsByAssignedUser(
+            @PathVariable Long assignedToId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPageResponse<TicketSummaryResponse> responses = ticketService.getTicketsByAssignedUser(assignedToId, after, limit);
         return ResponseEntity.ok(responses);
     }
 
     @GetMapping("/status/{statusId}")
-    public ResponseEntity<List<TicketResponse>> getTicketsByStatus(@PathVariable Long statusId) {
-        List<TicketResponse> responses = ticketService.getTicketsByStatus(statusId);
+    public ResponseEntity<CursorPageResponse<TicketSummaryResponse>> getTicketsByStatus(
+            @PathVariable Long statusId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPageResponse<TicketSummaryResponse> responses = ticketService.getTicketsByStatus(statusId, after, limit);
         return ResponseEntity.ok(responses);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<TicketResponse> updateTicket(
             @PathVariable Long id, 
-            @Valid @RequestBody TicketRequest request) {
-        TicketResponse response = ticketService.updateTicket(id, request);
-        return ResponseEntity.ok(response);
+            @Valid @RequestBody TicketRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TicketResponse response = ticketService.updateTicket(id, request, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(ticketService.getTicketETag(response.getId(), response.getVersion()))
+                .body(response);
     }
 
     @PatchMapping("/status")
     public ResponseEntity<TicketResponse> updateTicketStatus(
-            @Valid @RequestBody StatusUpdateRequest request) {
-        TicketResponse response = ticketService.updateTicketStatus(request);
+            @Valid @RequestBody StatusUpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TicketResponse response = ticketService.updateTicketStatus(request, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(ticketService.getTicketETag(response.getId(), response.getVersion()))
+                .body(response);
+    }
+
+    @PatchMapping("/status/bulk")
+    public ResponseEntity<BulkStatusUpdateResponse> updateTicketStatusBulk(
+            @Valid @RequestBody BulkStatusUpdateRequest request) {
+        BulkStatusUpdateResponse response = ticketService.updateTicketStatusBulk(request);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{id}/history")
-    public ResponseEntity<List<StatusHistoryResponse>> getTicketHistory(@PathVariable Long id) {
-        List<StatusHistoryResponse> responses = ticketService.getTicketHistory(id);
+    public ResponseEntity<CursorPageResponse<StatusHistoryResponse>> getTicketHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPageResponse<StatusHistoryResponse> responses = ticketService.getTicketHistory(id, after, limit);
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping("/{id}/timeline")
+    public ResponseEntity<CursorPageResponse<TimelineEntryResponse>> getTicketTimeline(
+            @PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPageResponse<TimelineEntryResponse> responses = ticketTimelineService.getTimeline(id, after, limit);
         return ResponseEntity.ok(responses);
     }
 
@@ -0,0 +1,29 @@
+package io.github.angelo.TicketingSystem.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequest {
+
+    @NotNull(message = "New Status ID is required")
+    private Long newStatusId;
+
+    // Informe os IDs dos chamados ou, na ausência deles, um filtro (statusId, priorityId, categoryId, assignedToId)
+    @Size(max = 10000, message = "A bulk status update accepts at most 10000 tickets")
+    private Set<Long> ticketIds;
+
+    private Long statusId;
+    private Long priorityId;
+    private Long categoryId;
+    private Long assignedToId;
+}
@@ -0,0 +1,22 @@
+package io.github.angelo.TicketingSystem.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTicketRequest {
+
+    // Cada item é validado individualmente; itens inválidos são reportados sem abortar o lote
+    @NotEmpty(message = "Tickets are required")
+    @Size(max = 1000, message = "A bulk request accepts at most 1000 tickets")
+    private List<TicketRequest> tickets;
+}
@@ -0,0 +1,28 @@
+package io.github.angelo.TicketingSystem.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketFacetRequest {
+
+    // Valores de uma mesma faceta combinam com OU; facetas diferentes, com E
+    private Set<Long> statusIds;
+
+    private Set<Long> priorityIds;
+
+    private Set<Long> categoryIds;
+
+    // 0 seleciona os chamados sem responsável
+    private Set<Long> assignedToIds;
+
+    @Builder.Default
+    private int limit = 50;
+}
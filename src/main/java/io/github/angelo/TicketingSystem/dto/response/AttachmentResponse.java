@@ -15,6 +15,8 @@ public class AttachmentResponse {
     private Long id;
     private String fileName;
     private String fileUrl;
+    private String contentType;
+    private Long size;
     private LocalDateTime uploadedAt;
     private Long ticketId;
 }
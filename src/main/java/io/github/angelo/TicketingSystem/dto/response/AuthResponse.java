@@ -13,15 +13,19 @@ import lombok.NoArgsConstructor;
 public class AuthResponse {
     private String token;
     private String type;
+    private long expiresIn;
+    private String refreshToken;
     private Long userId;
     private String name;
     private String email;
     private UserRole role;
 
-    public static AuthResponse of(String token, UserResponse user) {
+    public static AuthResponse of(String token, long expiresInSeconds, String refreshToken, UserResponse user) {
         return AuthResponse.builder()
                 .token(token)
                 .type("Bearer")
+                .expiresIn(expiresInSeconds)
+                .refreshToken(refreshToken)
                 .userId(user.getId())
                 .name(user.getName())
                 .email(user.getEmail())
@@ -0,0 +1,20 @@
+package io.github.angelo.TicketingSystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResponse {
+    private Long statusId;
+    private List<Long> changed;
+    private List<Long> alreadyInStatus;
+    private List<Long> conflicted;
+    private List<Long> notFound;
+}
@@ -0,0 +1,18 @@
+package io.github.angelo.TicketingSystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTicketResponse {
+    private int created;
+    private int failed;
+    private List<BulkItemResult> results;
+}
@@ -0,0 +1,21 @@
+package io.github.angelo.TicketingSystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketChangesResponse {
+    // true quando a marca é anterior à retenção das remoções: descarte a cópia local e aplique desde o início
+    private boolean resetRequired;
+    private List<TicketSummaryResponse> changed;
+    private List<Long> deleted;
+    private String watermark;
+    private boolean hasMore;
+}
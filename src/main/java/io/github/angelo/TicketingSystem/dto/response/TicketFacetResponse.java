@@ -0,0 +1,21 @@
+package io.github.angelo.TicketingSystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketFacetResponse {
+    private long total;
+    private List<Long> ticketIds;
+    private List<StatCountResponse> statuses;
+    private List<StatCountResponse> priorities;
+    private List<StatCountResponse> categories;
+    private List<StatCountResponse> assignees;
+}
@@ -17,6 +17,7 @@ public class TicketResponse {
     private String description;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
     private UserResponse user;
     private UserResponse assignedTo;
     private CategoryResponse category;
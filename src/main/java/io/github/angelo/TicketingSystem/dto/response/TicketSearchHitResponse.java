@@ -0,0 +1,20 @@
+package io.github.angelo.TicketingSystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketSearchHitResponse {
+    private Long ticketId;
+    private String title;
+    private double score;
+    // title, description ou comment
+    private String matchedIn;
+    private Long commentId;
+    private String snippet;
+}
@@ -0,0 +1,23 @@
+package io.github.angelo.TicketingSystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketStatsResponse {
+    private long total;
+    private long open;
+    private long openUnassigned;
+    private List<StatCountResponse> byStatus;
+    // Os agrupamentos abaixo consideram apenas tickets em aberto
+    private List<StatCountResponse> openByPriority;
+    private List<StatCountResponse> openByCategory;
+    private List<StatCountResponse> openByAssignee;
+}
@@ -0,0 +1,25 @@
+package io.github.angelo.TicketingSystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketStreamEventResponse {
+    private long id;
+    // TICKET_CREATED, TICKET_UPDATED, TICKET_STATUS_CHANGED, TICKET_DELETED, COMMENT_CREATED, COMMENT_DELETED
+    private String type;
+    private Long ticketId;
+    private Long commentId;
+    private Long statusId;
+    private Long priorityId;
+    private Long categoryId;
+    private Long assignedToId;
+    private LocalDateTime occurredAt;
+}
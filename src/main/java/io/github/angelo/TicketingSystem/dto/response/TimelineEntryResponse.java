@@ -0,0 +1,23 @@
+package io.github.angelo.TicketingSystem.dto.response;
+
+import io.github.angelo.TicketingSystem.model.enums.TimelineEntryType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineEntryResponse {
+    private TimelineEntryType type;
+    private Long id;
+    private LocalDateTime occurredAt;
+    // Apenas o campo correspondente ao tipo é preenchido
+    private StatusHistoryResponse statusChange;
+    private CommentResponse comment;
+    private AttachmentResponse attachment;
+}
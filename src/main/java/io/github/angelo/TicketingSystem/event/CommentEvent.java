@@ -0,0 +1,23 @@
+package io.github.angelo.TicketingSystem.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Publicado pelo CommentService dentro da transação de escrita.
+ */
+@Value
+@Builder
+public class CommentEvent {
+
+    public enum Type {
+        CREATED, DELETED
+    }
+
+    Type type;
+    Long commentId;
+    Long ticketId;
+    String message;
+    // Status, prioridade, categoria e responsável do ticket comentado
+    TicketSnapshot ticket;
+}
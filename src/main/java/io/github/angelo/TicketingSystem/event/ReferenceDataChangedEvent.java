@@ -0,0 +1,17 @@
+package io.github.angelo.TicketingSystem.event;
+
+import lombok.Value;
+
+/**
+ * Publicado por StatusService, PriorityService e CategoryService ao criar, alterar ou remover um registro.
+ */
+@Value
+public class ReferenceDataChangedEvent {
+
+    public enum Type {
+        STATUS, PRIORITY, CATEGORY
+    }
+
+    Type type;
+    Long id;
+}
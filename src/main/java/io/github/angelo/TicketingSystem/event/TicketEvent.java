@@ -0,0 +1,25 @@
+package io.github.angelo.TicketingSystem.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Publicado pelo TicketService dentro da transação de escrita. Os consumidores
+ * escutam com @TransactionalEventListener para reagir somente após o commit.
+ */
+@Value
+@Builder
+public class TicketEvent {
+
+    public enum Type {
+        CREATED, UPDATED, STATUS_CHANGED, DELETED
+    }
+
+    Type type;
+    Long ticketId;
+    String title;
+    String description;
+    // Estado antes da escrita (nulo em CREATED) e depois dela (nulo em DELETED)
+    TicketSnapshot previous;
+    TicketSnapshot current;
+}
@@ -0,0 +1,28 @@
+package io.github.angelo.TicketingSystem.event;
+
+import io.github.angelo.TicketingSystem.model.Ticket;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Valores de agrupamento de um ticket (status, prioridade, categoria e responsável)
+ * em um instante, levados no evento para que os consumidores não precisem reler o banco.
+ */
+@Value
+@Builder(toBuilder = true)
+public class TicketSnapshot {
+
+    Long statusId;
+    Long priorityId;
+    Long categoryId;
+    Long assignedToId;
+
+    public static TicketSnapshot of(Ticket ticket) {
+        return TicketSnapshot.builder()
+                .statusId(ticket.getStatus().getId())
+                .priorityId(ticket.getPriority().getId())
+                .categoryId(ticket.getCategory().getId())
+                .assignedToId(ticket.getAssignedTo() != null ? ticket.getAssignedTo().getId() : null)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.angelo.TicketingSystem.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Publicado por UserService e AuthService ao criar, alterar ou remover um usuário.
+ */
+@Value
+@Builder
+public class UserEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    Type type;
+    Long userId;
+    Integer tokenVersion;
+    // Nulo em DELETED
+    String name;
+}
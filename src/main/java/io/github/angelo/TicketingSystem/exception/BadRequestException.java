@@ -0,0 +1,7 @@
+package io.github.angelo.TicketingSystem.exception;
+
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.angelo.TicketingSystem.exception;
+
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
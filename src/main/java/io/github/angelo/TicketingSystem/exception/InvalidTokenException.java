@@ -0,0 +1,7 @@
+package io.github.angelo.TicketingSystem.exception;
+
+public class InvalidTokenException extends RuntimeException {
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
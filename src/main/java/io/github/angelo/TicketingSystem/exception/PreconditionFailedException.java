@@ -0,0 +1,7 @@
+package io.github.angelo.TicketingSystem.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
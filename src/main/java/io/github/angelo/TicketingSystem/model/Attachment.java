@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "attachment")
+@Table(name = "attachment", indexes = {
+        @Index(name = "idx_attachment_ticket_uploaded", columnList = "ticket_id, uploaded_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -17,15 +19,27 @@ import java.time.LocalDateTime;
 public class Attachment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attachment_seq")
+    @SequenceGenerator(name = "attachment_seq", sequenceName = "attachment_seq", allocationSize = IdAllocation.ATTACHMENT)
     private Long id;
 
     @Column(name = "file_name", nullable = false, length = 255)
     private String fileName;
 
-    @Column(name = "file_url", nullable = false, length = 500)
+    // URL externa (anexos registrados por link); nula quando o conteúdo está no content store
+    @Column(name = "file_url", length = 500)
     private String fileUrl;
 
+    // Chave do arquivo no AttachmentContentStore
+    @Column(name = "storage_key", length = 36)
+    private String storageKey;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "file_size")
+    private Long size;
+
     @Column(name = "uploaded_at", nullable = false, updatable = false)
     private LocalDateTime uploadedAt;
 
@@ -37,4 +51,8 @@ public class Attachment {
     protected void onCreate() {
         uploadedAt = LocalDateTime.now();
     }
+
+    public String resolveUrl() {
+        return storageKey != null ? "/api/attachments/" + id + "/content" : fileUrl;
+    }
 }
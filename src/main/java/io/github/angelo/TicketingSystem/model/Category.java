@@ -5,11 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "category")
 @Table(name = "category")
 @Data
 @Builder
@@ -18,7 +22,8 @@ import java.util.List;
 public class Category {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "category_seq")
+    @SequenceGenerator(name = "category_seq", sequenceName = "category_seq", allocationSize = IdAllocation.REFERENCE_DATA)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
@@ -27,7 +32,8 @@ public class Category {
     @Column(columnDefinition = "TEXT")
     private String description;
 
-    @OneToMany(mappedBy = "category", cascade = CascadeType.ALL)
+    // Sem cascata: chamados só são removidos pelo TicketService (tombstone, eventos, anexos)
+    @OneToMany(mappedBy = "category")
     @Builder.Default
     private List<Ticket> tickets = new ArrayList<>();
 }
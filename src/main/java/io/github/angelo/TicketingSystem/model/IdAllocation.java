@@ -0,0 +1,19 @@
+package io.github.angelo.TicketingSystem.model;
+
+/**
+ * Tamanho do bloco de IDs reservado por acesso à sequence de cada entidade (otimizador pooled-lo).
+ * Entidades com muitas inserções usam blocos maiores; tabelas de referência, blocos pequenos.
+ */
+public final class IdAllocation {
+
+    public static final int TICKET = 50;
+    public static final int STATUS_HISTORY = 50;
+    public static final int COMMENT = 50;
+    public static final int ATTACHMENT = 20;
+    public static final int USER = 20;
+    public static final int REFRESH_TOKEN = 20;
+    public static final int REFERENCE_DATA = 10;
+
+    private IdAllocation() {
+    }
+}
@@ -5,11 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "priority")
 @Table(name = "priority")
 @Data
 @Builder
@@ -18,7 +22,8 @@ import java.util.List;
 public class Priority {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "priority_seq")
+    @SequenceGenerator(name = "priority_seq", sequenceName = "priority_seq", allocationSize = IdAllocation.REFERENCE_DATA)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
@@ -27,7 +32,8 @@ public class Priority {
     @Column(nullable = false)
     private Integer level;
 
-    @OneToMany(mappedBy = "priority", cascade = CascadeType.ALL)
+    // Sem cascata: chamados só são removidos pelo TicketService (tombstone, eventos, anexos)
+    @OneToMany(mappedBy = "priority")
     @Builder.Default
     private List<Ticket> tickets = new ArrayList<>();
 }
@@ -5,11 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "status")
 @Table(name = "status")
 @Data
 @Builder
@@ -18,13 +22,15 @@ import java.util.List;
 public class Status {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "status_seq")
+    @SequenceGenerator(name = "status_seq", sequenceName = "status_seq", allocationSize = IdAllocation.REFERENCE_DATA)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
     private String name;
 
-    @OneToMany(mappedBy = "status", cascade = CascadeType.ALL)
+    // Sem cascata: chamados só são removidos pelo TicketService (tombstone, eventos, anexos)
+    @OneToMany(mappedBy = "status")
     @Builder.Default
     private List<Ticket> tickets = new ArrayList<>();
 
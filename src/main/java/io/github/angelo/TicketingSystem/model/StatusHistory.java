@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "status_history")
+@Table(name = "status_history", indexes = {
+        @Index(name = "idx_status_history_ticket_changed", columnList = "ticket_id, changed_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -17,7 +19,8 @@ import java.time.LocalDateTime;
 public class StatusHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "status_history_seq")
+    @SequenceGenerator(name = "status_history_seq", sequenceName = "status_history_seq", allocationSize = IdAllocation.STATUS_HISTORY)
     private Long id;
 
     @Column(name = "changed_at", nullable = false, updatable = false)
@@ -35,8 +38,9 @@ public class StatusHistory {
     @JoinColumn(name = "new_status_id", nullable = false)
     private Status newStatus;
 
+    // Nulo depois que o autor é removido
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "changed_by", nullable = false)
+    @JoinColumn(name = "changed_by")
     private User changedBy;
 
     @PrePersist
@@ -11,7 +11,25 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "ticket")
+@NamedEntityGraph(name = "Ticket.details", attributeNodes = {
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode("assignedTo"),
+        @NamedAttributeNode("category"),
+        @NamedAttributeNode("priority"),
+        @NamedAttributeNode("status")
+})
+@Table(name = "ticket", indexes = {
+        @Index(name = "idx_ticket_created", columnList = "created_at, id"),
+        @Index(name = "idx_ticket_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_ticket_assigned_created", columnList = "assigned_to, created_at, id"),
+        @Index(name = "idx_ticket_status_created", columnList = "status_id, created_at, id"),
+        @Index(name = "idx_ticket_category_created", columnList = "category_id, created_at, id"),
+        @Index(name = "idx_ticket_priority_created", columnList = "priority_id, created_at, id"),
+        @Index(name = "idx_ticket_updated", columnList = "updated_at, id"),
+        @Index(name = "idx_ticket_status_priority", columnList = "status_id, priority_id, created_at"),
+        @Index(name = "idx_ticket_status_category", columnList = "status_id, category_id, created_at"),
+        @Index(name = "idx_ticket_assigned_status", columnList = "assigned_to, status_id, created_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -19,7 +37,8 @@ import java.util.List;
 public class Ticket {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_seq")
+    @SequenceGenerator(name = "ticket_seq", sequenceName = "ticket_seq", allocationSize = IdAllocation.TICKET)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -34,6 +53,11 @@ public class Ticket {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Controle otimista: incrementado a cada UPDATE, inclusive nas atualizações em JPQL
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -0,0 +1,31 @@
+package io.github.angelo.TicketingSystem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de um ticket removido, consultado pela sincronização incremental
+ * (GET /api/tickets/changes). Mantido apenas pelo período de retenção.
+ */
+@Entity
+@Table(name = "ticket_tombstone", indexes = {
+        @Index(name = "idx_ticket_tombstone_deleted", columnList = "deleted_at, ticket_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketTombstone {
+
+    @Id
+    @Column(name = "ticket_id")
+    private Long ticketId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,8 @@
+package io.github.angelo.TicketingSystem.model.enums;
+
+// A ordem das constantes desempata eventos com o mesmo instante na timeline
+public enum TimelineEntryType {
+    STATUS_CHANGE,
+    COMMENT,
+    ATTACHMENT
+}
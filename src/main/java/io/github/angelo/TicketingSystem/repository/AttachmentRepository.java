@@ -1,12 +1,31 @@
 package io.github.angelo.TicketingSystem.repository;
 
 import io.github.angelo.TicketingSystem.model.Attachment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
     List<Attachment> findByTicketId(Long ticketId);
+
+    // Paginação keyset por chamado sobre o índice (ticket_id, uploaded_at, id)
+    @Query("SELECT a FROM Attachment a WHERE a.ticket.id = :ticketId ORDER BY a.uploadedAt DESC, a.id DESC")
+    List<Attachment> findPageByTicketId(@Param("ticketId") Long ticketId, Pageable pageable);
+
+    @Query("""
+            SELECT a FROM Attachment a
+            WHERE a.ticket.id = :ticketId
+              AND (a.uploadedAt < :uploadedAt OR (a.uploadedAt = :uploadedAt AND a.id < :id))
+            ORDER BY a.uploadedAt DESC, a.id DESC
+            """)
+    List<Attachment> findPageByTicketIdAfter(@Param("ticketId") Long ticketId,
+                                             @Param("uploadedAt") LocalDateTime uploadedAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
 }
@@ -1,13 +1,54 @@
 package io.github.angelo.TicketingSystem.repository;
 
 import io.github.angelo.TicketingSystem.model.Comment;
+import io.github.angelo.TicketingSystem.repository.projection.CommentTextView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByTicketId(Long ticketId);
     List<Comment> findByUserId(Long userId);
+
+    // Remoção do usuário: o comentário é mantido, sem autor
+    @Modifying
+    @Query("UPDATE Comment c SET c.user = null WHERE c.user.id = :userId")
+    int clearAuthor(@Param("userId") Long userId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new io.github.angelo.TicketingSystem.repository.projection.CommentTextView(c.id, c.ticket.id, c.message) FROM Comment c")
+    Stream<CommentTextView> streamAllText();
+
+    @Query("SELECT new io.github.angelo.TicketingSystem.repository.projection.CommentTextView(c.id, c.ticket.id, c.message) FROM Comment c WHERE c.id IN :ids")
+    List<CommentTextView> findTextByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Paginação keyset por chamado sobre o índice (ticket_id, created_at, id), com o autor no mesmo SELECT
+    @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.user WHERE c.ticket.id = :ticketId ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findPageByTicketId(@Param("ticketId") Long ticketId, Pageable pageable);
+
+    @Query("""
+            SELECT c FROM Comment c LEFT JOIN FETCH c.user
+            WHERE c.ticket.id = :ticketId
+              AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id))
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<Comment> findPageByTicketIdAfter(@Param("ticketId") Long ticketId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
 }
@@ -1,12 +1,41 @@
 package io.github.angelo.TicketingSystem.repository;
 
 import io.github.angelo.TicketingSystem.model.StatusHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface StatusHistoryRepository extends JpaRepository<StatusHistory, Long> {
-    List<StatusHistory> findByTicketIdOrderByChangedAtDesc(Long ticketId);
+
+    String PAGE_SELECT = """
+            SELECT h FROM StatusHistory h
+            LEFT JOIN FETCH h.oldStatus
+            JOIN FETCH h.newStatus
+            LEFT JOIN FETCH h.changedBy
+            WHERE h.ticket.id = :ticketId
+            """;
+
+    String PAGE_ORDER = " ORDER BY h.changedAt DESC, h.id DESC";
+
+    // Remoção do usuário: a transição continua no histórico, sem autor
+    @Modifying
+    @Query("UPDATE StatusHistory h SET h.changedBy = null WHERE h.changedBy.id = :userId")
+    int clearChangedBy(@Param("userId") Long userId);
+
+    // Paginação keyset sobre o índice (ticket_id, changed_at, id), com as associações no mesmo SELECT
+    @Query(PAGE_SELECT + PAGE_ORDER)
+    List<StatusHistory> findPageByTicketId(@Param("ticketId") Long ticketId, Pageable pageable);
+
+    @Query(PAGE_SELECT + " AND (h.changedAt < :changedAt OR (h.changedAt = :changedAt AND h.id < :id))" + PAGE_ORDER)
+    List<StatusHistory> findPageByTicketIdAfter(@Param("ticketId") Long ticketId,
+                                                @Param("changedAt") LocalDateTime changedAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
 }
@@ -1,16 +1,200 @@
 package io.github.angelo.TicketingSystem.repository;
 
+import io.github.angelo.TicketingSystem.model.Status;
 import io.github.angelo.TicketingSystem.model.Ticket;
+import io.github.angelo.TicketingSystem.repository.projection.DimensionCount;
+import io.github.angelo.TicketingSystem.repository.projection.TicketExportView;
+import io.github.angelo.TicketingSystem.repository.projection.TicketStatusView;
+import io.github.angelo.TicketingSystem.repository.projection.TicketSummaryView;
+import io.github.angelo.TicketingSystem.repository.projection.TicketTextView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TicketRepository extends JpaRepository<Ticket, Long> {
+public interface TicketRepository extends JpaRepository<Ticket, Long>, TicketSearchRepository,
+        TicketStatusBatchRepository {
     List<Ticket> findByUserId(Long userId);
     List<Ticket> findByAssignedToId(Long assignedToId);
     List<Ticket> findByCategoryId(Long categoryId);
     List<Ticket> findByStatusId(Long statusId);
     List<Ticket> findByPriorityId(Long priorityId);
+
+    boolean existsByStatusId(Long statusId);
+    boolean existsByCategoryId(Long categoryId);
+    boolean existsByPriorityId(Long priorityId);
+    boolean existsByUserIdOrAssignedToId(Long userId, Long assignedToId);
+
+    // Carrega o ticket junto com as associações usadas em TicketResponse, em um único SELECT
+    @EntityGraph("Ticket.details")
+    Optional<Ticket> findWithDetailsById(Long id);
+
+    // Versão usada pelo cache de respostas: consulta só pela chave primária, sem joins
+    @Query("SELECT t.version FROM Ticket t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new io.github.angelo.TicketingSystem.repository.projection.TicketTextView(t.id, t.title, t.description) FROM Ticket t")
+    Stream<TicketTextView> streamAllText();
+
+    @Query("SELECT new io.github.angelo.TicketingSystem.repository.projection.TicketTextView(t.id, t.title, t.description) FROM Ticket t WHERE t.id IN :ids")
+    List<TicketTextView> findTextByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Cursor forward-only com fetch size: as linhas são lidas em blocos, sem materializar a tabela
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new io.github.angelo.TicketingSystem.repository.projection.TicketExportView(
+                t.id, t.title, t.description, t.createdAt, t.updatedAt,
+                u.id, u.email, a.id, a.email, c.name, p.name, s.name)
+            FROM Ticket t
+            JOIN t.user u
+            LEFT JOIN t.assignedTo a
+            JOIN t.category c
+            JOIN t.priority p
+            JOIN t.status s
+            ORDER BY t.id
+            """)
+    Stream<TicketExportView> streamForExport();
+
+    String STATUS_VIEW_SELECT = """
+            SELECT new io.github.angelo.TicketingSystem.repository.projection.TicketStatusView(
+                t.id, t.status.id, t.priority.id, t.category.id, a.id, t.version)
+            FROM Ticket t
+            LEFT JOIN t.assignedTo a
+            """;
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(STATUS_VIEW_SELECT)
+    Stream<TicketStatusView> streamAllStatusViews();
+
+    @Query(STATUS_VIEW_SELECT + " WHERE t.id IN :ids")
+    List<TicketStatusView> findStatusByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(STATUS_VIEW_SELECT + """
+            WHERE (:statusId IS NULL OR t.status.id = :statusId)
+              AND (:priorityId IS NULL OR t.priority.id = :priorityId)
+              AND (:categoryId IS NULL OR t.category.id = :categoryId)
+              AND (:assignedToId IS NULL OR a.id = :assignedToId)
+            ORDER BY t.id
+            """)
+    List<TicketStatusView> findStatusByFilter(@Param("statusId") Long statusId,
+                                              @Param("priorityId") Long priorityId,
+                                              @Param("categoryId") Long categoryId,
+                                              @Param("assignedToId") Long assignedToId,
+                                              Pageable pageable);
+
+    // Contagens usadas para semear e reconciliar os contadores do painel
+    @Query("SELECT new io.github.angelo.TicketingSystem.repository.projection.DimensionCount(t.status.id, COUNT(t)) FROM Ticket t GROUP BY t.status.id")
+    List<DimensionCount> countByStatus();
+
+    @Query("SELECT new io.github.angelo.TicketingSystem.repository.projection.DimensionCount(t.priority.id, COUNT(t)) FROM Ticket t WHERE t.status.id IN :statusIds GROUP BY t.priority.id")
+    List<DimensionCount> countByPriorityInStatuses(@Param("statusIds") Collection<Long> statusIds);
+
+    @Query("SELECT new io.github.angelo.TicketingSystem.repository.projection.DimensionCount(t.category.id, COUNT(t)) FROM Ticket t WHERE t.status.id IN :statusIds GROUP BY t.category.id")
+    List<DimensionCount> countByCategoryInStatuses(@Param("statusIds") Collection<Long> statusIds);
+
+    // Chave nula agrupa os tickets sem responsável
+    @Query("SELECT new io.github.angelo.TicketingSystem.repository.projection.DimensionCount(a.id, COUNT(t)) FROM Ticket t LEFT JOIN t.assignedTo a WHERE t.status.id IN :statusIds GROUP BY a.id")
+    List<DimensionCount> countByAssigneeInStatuses(@Param("statusIds") Collection<Long> statusIds);
+
+    // Compare-and-set: só altera se status e versão ainda forem os lidos; 0 linhas indica escrita concorrente.
+    // Limpa o contexto para que a próxima leitura do chamado venha do banco, não da entidade já carregada
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Ticket t SET t.status = :newStatus, t.updatedAt = :now, t.version = t.version + 1
+            WHERE t.id = :id AND t.status.id = :expectedStatusId AND t.version = :expectedVersion
+            """)
+    int compareAndSetStatus(@Param("id") Long id,
+                            @Param("expectedStatusId") Long expectedStatusId,
+                            @Param("expectedVersion") Long expectedVersion,
+                            @Param("newStatus") Status newStatus,
+                            @Param("now") LocalDateTime now);
+
+    String SUMMARY_SELECT = """
+            SELECT new io.github.angelo.TicketingSystem.repository.projection.TicketSummaryView(
+                t.id, t.title, t.createdAt, t.updatedAt,
+                u.id, u.name, u.email, u.role,
+                a.id, a.name, a.email, a.role,
+                c.id, c.name, p.id, p.name, p.level, s.id, s.name)
+            FROM Ticket t
+            JOIN t.user u
+            LEFT JOIN t.assignedTo a
+            JOIN t.category c
+            JOIN t.priority p
+            JOIN t.status s
+            """;
+
+    String KEYSET_AFTER = " (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) ";
+
+    String KEYSET_ORDER = " ORDER BY t.createdAt DESC, t.id DESC";
+
+    // Sincronização incremental: alterados após a posição (updatedAt, id) e até upTo, pelo índice idx_ticket_updated
+    @Query(SUMMARY_SELECT + """
+             WHERE (t.updatedAt > :updatedAt OR (t.updatedAt = :updatedAt AND t.id > :id))
+               AND t.updatedAt <= :upTo
+             ORDER BY t.updatedAt, t.id
+            """)
+    List<TicketSummaryView> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                             @Param("id") Long id,
+                                             @Param("upTo") LocalDateTime upTo,
+                                             Pageable pageable);
+
+    // Paginação keyset: ordenação (createdAt DESC, id DESC); o Pageable só limita o tamanho da página
+    @Query(SUMMARY_SELECT + KEYSET_ORDER)
+    List<TicketSummaryView> findSummaryPage(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE" + KEYSET_AFTER + KEYSET_ORDER)
+    List<TicketSummaryView> findSummaryPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE u.id = :userId" + KEYSET_ORDER)
+    List<TicketSummaryView> findSummaryPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE u.id = :userId AND" + KEYSET_AFTER + KEYSET_ORDER)
+    List<TicketSummaryView> findSummaryPageByUserIdAfter(@Param("userId") Long userId,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") Long id,
+                                                         Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE a.id = :assignedToId" + KEYSET_ORDER)
+    List<TicketSummaryView> findSummaryPageByAssignedToId(@Param("assignedToId") Long assignedToId,
+                                                          Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE a.id = :assignedToId AND" + KEYSET_AFTER + KEYSET_ORDER)
+    List<TicketSummaryView> findSummaryPageByAssignedToIdAfter(@Param("assignedToId") Long assignedToId,
+                                                               @Param("createdAt") LocalDateTime createdAt,
+                                                               @Param("id") Long id,
+                                                               Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE s.id = :statusId" + KEYSET_ORDER)
+    List<TicketSummaryView> findSummaryPageByStatusId(@Param("statusId") Long statusId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE s.id = :statusId AND" + KEYSET_AFTER + KEYSET_ORDER)
+    List<TicketSummaryView> findSummaryPageByStatusIdAfter(@Param("statusId") Long statusId,
+                                                           @Param("createdAt") LocalDateTime createdAt,
+                                                           @Param("id") Long id,
+                                                           Pageable pageable);
 }
@@ -0,0 +1,15 @@
+package io.github.angelo.TicketingSystem.repository;
+
+import io.github.angelo.TicketingSystem.dto.request.TicketSearchRequest;
+import io.github.angelo.TicketingSystem.repository.projection.TicketSummaryView;
+
+import java.util.List;
+
+public interface TicketSearchRepository {
+
+    /**
+     * Executa a busca combinando todos os filtros informados em um único SELECT.
+     * Retorna no máximo maxResults linhas a partir de firstResult.
+     */
+    List<TicketSummaryView> search(TicketSearchRequest request, int firstResult, int maxResults);
+}
@@ -0,0 +1,85 @@
+package io.github.angelo.TicketingSystem.repository;
+
+import io.github.angelo.TicketingSystem.dto.request.TicketSearchRequest;
+import io.github.angelo.TicketingSystem.model.*;
+import io.github.angelo.TicketingSystem.repository.projection.TicketSummaryView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TicketSearchRepositoryImpl implements TicketSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TicketSummaryView> search(TicketSearchRequest request, int firstResult, int maxResults) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TicketSummaryView> query = cb.createQuery(TicketSummaryView.class);
+
+        Root<Ticket> t = query.from(Ticket.class);
+        Join<Ticket, User> u = t.join("user");
+        Join<Ticket, User> a = t.join("assignedTo", JoinType.LEFT);
+        Join<Ticket, Category> c = t.join("category");
+        Join<Ticket, Priority> p = t.join("priority");
+        Join<Ticket, Status> s = t.join("status");
+
+        query.select(cb.construct(TicketSummaryView.class,
+                t.get("id"), t.get("title"), t.get("createdAt"), t.get("updatedAt"),
+                u.get("id"), u.get("name"), u.get("email"), u.get("role"),
+                a.get("id"), a.get("name"), a.get("email"), a.get("role"),
+                c.get("id"), c.get("name"), p.get("id"), p.get("name"), p.get("level"),
+                s.get("id"), s.get("name")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (request.getStatusId() != null) {
+            predicates.add(cb.equal(t.get("status").get("id"), request.getStatusId()));
+        }
+        if (request.getPriorityId() != null) {
+            predicates.add(cb.equal(t.get("priority").get("id"), request.getPriorityId()));
+        }
+        if (request.getCategoryId() != null) {
+            predicates.add(cb.equal(t.get("category").get("id"), request.getCategoryId()));
+        }
+        if (request.getAssignedToId() != null) {
+            predicates.add(cb.equal(t.get("assignedTo").get("id"), request.getAssignedToId()));
+        }
+        if (request.getUserId() != null) {
+            predicates.add(cb.equal(t.get("user").get("id"), request.getUserId()));
+        }
+        if (request.getCreatedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(t.get("createdAt"), request.getCreatedFrom()));
+        }
+        if (request.getCreatedTo() != null) {
+            predicates.add(cb.lessThan(t.get("createdAt"), request.getCreatedTo()));
+        }
+        if (request.getUpdatedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(t.get("updatedAt"), request.getUpdatedFrom()));
+        }
+        if (request.getUpdatedTo() != null) {
+            predicates.add(cb.lessThan(t.get("updatedAt"), request.getUpdatedTo()));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+
+        boolean ascending = "asc".equalsIgnoreCase(request.getDirection());
+        Expression<?> sortKey = switch (request.getSort()) {
+            case "updatedAt" -> t.get("updatedAt");
+            case "title" -> t.get("title");
+            case "priority" -> p.get("level");
+            case "status" -> s.get("name");
+            default -> t.get("createdAt");
+        };
+        // id como desempate garante uma ordem estável entre as páginas
+        query.orderBy(
+                ascending ? cb.asc(sortKey) : cb.desc(sortKey),
+                ascending ? cb.asc(t.get("id")) : cb.desc(t.get("id")));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(firstResult)
+                .setMaxResults(maxResults)
+                .getResultList();
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.angelo.TicketingSystem.repository;
+
+import io.github.angelo.TicketingSystem.repository.projection.TicketStatusView;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TicketStatusBatchRepository {
+
+    /**
+     * Envia o compare-and-set de status e versão de todos os chamados em um único batch JDBC.
+     * Devolve, na ordem recebida, se cada chamado foi alterado; false indica escrita concorrente.
+     */
+    boolean[] compareAndSetStatuses(List<TicketStatusView> tickets, Long newStatusId, LocalDateTime now);
+}
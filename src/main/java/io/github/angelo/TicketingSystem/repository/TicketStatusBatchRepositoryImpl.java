@@ -0,0 +1,48 @@
+package io.github.angelo.TicketingSystem.repository;
+
+import io.github.angelo.TicketingSystem.repository.projection.TicketStatusView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class TicketStatusBatchRepositoryImpl implements TicketStatusBatchRepository {
+
+    // Mesmo UPDATE de TicketRepository.compareAndSetStatus, em SQL para poder ir em batch
+    private static final String COMPARE_AND_SET_STATUS = """
+            UPDATE ticket SET status_id = ?, updated_at = ?, version = version + 1
+            WHERE id = ? AND status_id = ? AND version = ?
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public boolean[] compareAndSetStatuses(List<TicketStatusView> tickets, Long newStatusId, LocalDateTime now) {
+        if (tickets.isEmpty()) {
+            return new boolean[0];
+        }
+        // H2 e PostgreSQL informam as linhas afetadas por comando do batch
+        int[] counts = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(COMPARE_AND_SET_STATUS)) {
+                for (TicketStatusView ticket : tickets) {
+                    statement.setLong(1, newStatusId);
+                    statement.setObject(2, now);
+                    statement.setLong(3, ticket.getId());
+                    statement.setLong(4, ticket.getStatusId());
+                    statement.setLong(5, ticket.getVersion());
+                    statement.addBatch();
+                }
+                return statement.executeBatch();
+            }
+        });
+        boolean[] changed = new boolean[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            changed[i] = counts[i] == 1;
+        }
+        return changed;
+    }
+}
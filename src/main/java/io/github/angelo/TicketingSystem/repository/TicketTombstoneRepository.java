@@ -0,0 +1,32 @@
+package io.github.angelo.TicketingSystem.repository;
+
+import io.github.angelo.TicketingSystem.model.TicketTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TicketTombstoneRepository extends JpaRepository<TicketTombstone, Long> {
+
+    // Keyset crescente por (deletedAt, ticketId), limitado ao instante até onde a sincronização é segura
+    @Query("""
+            SELECT t FROM TicketTombstone t
+            WHERE (t.deletedAt > :deletedAt OR (t.deletedAt = :deletedAt AND t.ticketId > :ticketId))
+              AND t.deletedAt <= :upTo
+            ORDER BY t.deletedAt, t.ticketId
+            """)
+    List<TicketTombstone> findPageAfter(@Param("deletedAt") LocalDateTime deletedAt,
+                                        @Param("ticketId") Long ticketId,
+                                        @Param("upTo") LocalDateTime upTo,
+                                        Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TicketTombstone t WHERE t.deletedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -1,13 +1,38 @@
 package io.github.angelo.TicketingSystem.repository;
 
 import io.github.angelo.TicketingSystem.model.User;
+import io.github.angelo.TicketingSystem.repository.projection.UserNameView;
+import io.github.angelo.TicketingSystem.repository.projection.UserTokenVersionView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    // Resultado no cache de consultas do Hibernate; invalidado a cada escrita na tabela users
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
+
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
+    @Query("SELECT new io.github.angelo.TicketingSystem.repository.projection.UserTokenVersionView(u.id, u.tokenVersion) FROM User u")
+    List<UserTokenVersionView> findAllTokenVersions();
+
+    @Query("SELECT new io.github.angelo.TicketingSystem.repository.projection.UserNameView(u.id, u.name) FROM User u")
+    List<UserNameView> findAllNames();
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,12 @@
+package io.github.angelo.TicketingSystem.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CommentTextView {
+    private final Long id;
+    private final Long ticketId;
+    private final String message;
+}
@@ -0,0 +1,11 @@
+package io.github.angelo.TicketingSystem.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class DimensionCount {
+    private final Long key;
+    private final Long count;
+}
@@ -0,0 +1,23 @@
+package io.github.angelo.TicketingSystem.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class TicketExportView {
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Long userId;
+    private final String userEmail;
+    private final Long assignedToId;
+    private final String assignedToEmail;
+    private final String category;
+    private final String priority;
+    private final String status;
+}
@@ -0,0 +1,15 @@
+package io.github.angelo.TicketingSystem.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TicketStatusView {
+    private final Long id;
+    private final Long statusId;
+    private final Long priorityId;
+    private final Long categoryId;
+    private final Long assignedToId;
+    private final Long version;
+}
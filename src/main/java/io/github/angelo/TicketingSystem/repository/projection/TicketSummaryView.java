@@ -0,0 +1,35 @@
+package io.github.angelo.TicketingSystem.repository.projection;
+
+import io.github.angelo.TicketingSystem.model.enums.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha plana da listagem de tickets, montada por expressão construtora JPQL.
+ * Não passa pelo contexto de persistência e não carrega description, coleções nem senha.
+ */
+@Getter
+@AllArgsConstructor
+public class TicketSummaryView {
+    private final Long id;
+    private final String title;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Long userId;
+    private final String userName;
+    private final String userEmail;
+    private final UserRole userRole;
+    private final Long assignedToId;
+    private final String assignedToName;
+    private final String assignedToEmail;
+    private final UserRole assignedToRole;
+    private final Long categoryId;
+    private final String categoryName;
+    private final Long priorityId;
+    private final String priorityName;
+    private final Integer priorityLevel;
+    private final Long statusId;
+    private final String statusName;
+}
@@ -0,0 +1,12 @@
+package io.github.angelo.TicketingSystem.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TicketTextView {
+    private final Long id;
+    private final String title;
+    private final String description;
+}
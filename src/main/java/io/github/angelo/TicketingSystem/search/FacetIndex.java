@@ -0,0 +1,275 @@
+package io.github.angelo.TicketingSystem.search;
+
+import io.github.angelo.TicketingSystem.event.TicketEvent;
+import io.github.angelo.TicketingSystem.event.TicketSnapshot;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import io.github.angelo.TicketingSystem.repository.projection.TicketStatusView;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Índice de facetas em memória: um bitmap comprimido (Roaring) de IDs de ticket para cada
+ * status, prioridade, categoria e responsável. Interseções e contagens por faceta são
+ * respondidas só com operações entre bitmaps, sem consultar o banco.
+ * É reconstruído na inicialização e atualizado após o commit de cada escrita em tickets.
+ */
+@Slf4j
+@Component
+public class FacetIndex {
+
+    public enum Facet {
+        STATUS, PRIORITY, CATEGORY, ASSIGNEE
+    }
+
+    // Chave usada na faceta ASSIGNEE para tickets sem responsável (IDs de sequence começam em 1)
+    public static final long UNASSIGNED = 0L;
+
+    // Bitmaps guardam inteiros de 32 bits sem sinal; 0xFFFFFFFF (-1) marca IDs fora do índice
+    public static final long MAX_TICKET_ID = 0xFFFFFFFEL;
+    private static final int NOT_INDEXED = -1;
+
+    private final TicketRepository ticketRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+    // Guardados pelo lock de escrita
+    private Bitmaps bitmaps = new Bitmaps();
+    // Eventos recebidos durante uma reconstrução, reaplicados sobre os bitmaps novos antes da troca
+    private List<TicketEvent> pendingDuringRebuild;
+    private volatile boolean idOutOfRange;
+
+    public FacetIndex(TicketRepository ticketRepository, PlatformTransactionManager transactionManager) {
+        this.ticketRepository = ticketRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    private static class Bitmaps {
+        private final RoaringBitmap all = new RoaringBitmap();
+        private final Map<Facet, Map<Long, RoaringBitmap>> byFacet = new EnumMap<>(Facet.class);
+
+        private Bitmaps() {
+            for (Facet facet : Facet.values()) {
+                byFacet.put(facet, new HashMap<>());
+            }
+        }
+
+        private void add(int ticketId, TicketSnapshot ticket) {
+            all.add(ticketId);
+            forEachValue(ticket, (facet, value) ->
+                    byFacet.get(facet).computeIfAbsent(value, v -> new RoaringBitmap()).add(ticketId));
+        }
+
+        private void remove(int ticketId, TicketSnapshot ticket) {
+            forEachValue(ticket, (facet, value) -> {
+                RoaringBitmap bitmap = byFacet.get(facet).get(value);
+                if (bitmap != null) {
+                    bitmap.remove(ticketId);
+                    if (bitmap.isEmpty()) {
+                        byFacet.get(facet).remove(value);
+                    }
+                }
+            });
+        }
+
+        private static void forEachValue(TicketSnapshot ticket, FacetValueConsumer consumer) {
+            consumer.accept(Facet.STATUS, ticket.getStatusId());
+            consumer.accept(Facet.PRIORITY, ticket.getPriorityId());
+            consumer.accept(Facet.CATEGORY, ticket.getCategoryId());
+            consumer.accept(Facet.ASSIGNEE, ticket.getAssignedToId() != null ? ticket.getAssignedToId() : UNASSIGNED);
+        }
+    }
+
+    @FunctionalInterface
+    private interface FacetValueConsumer {
+        void accept(Facet facet, Long value);
+    }
+
+    @Value
+    public static class Result {
+        long total;
+        // IDs dos tickets selecionados, do mais recente (maior id) para o mais antigo
+        List<Long> ticketIds;
+        // Para cada faceta: valor -> quantidade de tickets, aplicando os filtros das demais facetas
+        Map<Facet, Map<Long, Long>> counts;
+    }
+
+    /**
+     * A leitura do banco corre fora do lock. Eventos que chegam nesse meio-tempo continuam
+     * atualizando os bitmaps em uso e também são guardados; antes da troca são reaplicados, em ordem,
+     * sobre os bitmaps novos, que assim não perdem escritas confirmadas durante a leitura.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Bitmaps fresh = new Bitmaps();
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<TicketStatusView> rows = ticketRepository.streamAllStatusViews()) {
+                        rows.forEach(row -> {
+                            int ticketId = toIndexId(row.getId());
+                            if (ticketId != NOT_INDEXED) {
+                                fresh.add(ticketId, TicketSnapshot.builder()
+                                        .statusId(row.getStatusId())
+                                        .priorityId(row.getPriorityId())
+                                        .categoryId(row.getCategoryId())
+                                        .assignedToId(row.getAssignedToId())
+                                        .build());
+                            }
+                        });
+                    }
+                });
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    pendingDuringRebuild = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+            fresh.all.runOptimize();
+            fresh.byFacet.values().forEach(values -> values.values().forEach(RoaringBitmap::runOptimize));
+
+            int replayed;
+            lock.writeLock().lock();
+            try {
+                replayed = pendingDuringRebuild.size();
+                pendingDuringRebuild.forEach(event -> apply(fresh, event));
+                pendingDuringRebuild = null;
+                bitmaps = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Facet index built: {} tickets, {} concurrent changes replayed",
+                    fresh.all.getLongCardinality(), replayed);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTicketEvent(TicketEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(bitmaps, event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(Bitmaps target, TicketEvent event) {
+        int ticketId = toIndexId(event.getTicketId());
+        if (ticketId == NOT_INDEXED) {
+            return;
+        }
+        if (event.getPrevious() != null) {
+            target.remove(ticketId, event.getPrevious());
+        }
+        if (event.getCurrent() != null) {
+            target.add(ticketId, event.getCurrent());
+        } else {
+            target.all.remove(ticketId);
+        }
+    }
+
+    /**
+     * IDs acima de MAX_TICKET_ID não cabem nos bitmaps: não são indexados e o índice passa a
+     * recusar consultas, em vez de derrubar o listener depois do commit.
+     */
+    private int toIndexId(long ticketId) {
+        if (ticketId < 0 || ticketId > MAX_TICKET_ID) {
+            if (!idOutOfRange) {
+                idOutOfRange = true;
+                log.error("Ticket id {} exceeds the facet index range; faceted search is disabled", ticketId);
+            }
+            return NOT_INDEXED;
+        }
+        return (int) ticketId;
+    }
+
+    /**
+     * Valores de uma mesma faceta são combinados com OU e facetas diferentes com E.
+     * A contagem de cada faceta ignora o filtro da própria faceta (faceta disjuntiva),
+     * para que a interface mostre quantos tickets cada alternativa traria.
+     */
+    public Result query(Map<Facet, Set<Long>> selected, int limit) {
+        if (idOutOfRange) {
+            throw new IllegalStateException("Facet index cannot hold ticket ids above " + MAX_TICKET_ID);
+        }
+        lock.readLock().lock();
+        try {
+            Map<Facet, RoaringBitmap> selections = new EnumMap<>(Facet.class);
+            selected.forEach((facet, values) -> {
+                if (values != null && !values.isEmpty()) {
+                    selections.put(facet, union(facet, values));
+                }
+            });
+
+            RoaringBitmap matches = intersect(selections, null);
+
+            Map<Facet, Map<Long, Long>> counts = new EnumMap<>(Facet.class);
+            for (Facet facet : Facet.values()) {
+                RoaringBitmap base = intersect(selections, facet);
+                Map<Long, Long> facetCounts = new HashMap<>();
+                bitmaps.byFacet.get(facet).forEach((value, bitmap) -> {
+                    long count = RoaringBitmap.andCardinality(base, bitmap);
+                    if (count > 0) {
+                        facetCounts.put(value, count);
+                    }
+                });
+                counts.put(facet, facetCounts);
+            }
+
+            List<Long> ticketIds = new ArrayList<>(Math.min(limit, matches.getCardinality()));
+            IntIterator iterator = matches.getReverseIntIterator();
+            while (iterator.hasNext() && ticketIds.size() < limit) {
+                ticketIds.add(Integer.toUnsignedLong(iterator.next()));
+            }
+
+            return new Result(matches.getLongCardinality(), ticketIds, counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap union(Facet facet, Set<Long> values) {
+        Map<Long, RoaringBitmap> facetBitmaps = bitmaps.byFacet.get(facet);
+        return RoaringBitmap.or(values.stream()
+                .map(facetBitmaps::get)
+                .filter(Objects::nonNull)
+                .iterator());
+    }
+
+    // Interseção de todos os filtros, exceto o da faceta informada; sem filtros devolve o conjunto completo
+    private RoaringBitmap intersect(Map<Facet, RoaringBitmap> selections, Facet excluded) {
+        RoaringBitmap result = bitmaps.all;
+        for (Map.Entry<Facet, RoaringBitmap> entry : selections.entrySet()) {
+            if (entry.getKey() != excluded) {
+                result = RoaringBitmap.and(result, entry.getValue());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,316 @@
+package io.github.angelo.TicketingSystem.search;
+
+import io.github.angelo.TicketingSystem.event.CommentEvent;
+import io.github.angelo.TicketingSystem.event.TicketEvent;
+import io.github.angelo.TicketingSystem.repository.CommentRepository;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import io.github.angelo.TicketingSystem.repository.projection.CommentTextView;
+import io.github.angelo.TicketingSystem.repository.projection.TicketTextView;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Índice invertido em memória sobre título/descrição dos tickets e texto dos comentários.
+ * Cada ticket é um documento; os comentários contribuem para o documento do seu ticket.
+ * É reconstruído a partir do banco na inicialização e atualizado após o commit de cada escrita.
+ */
+@Slf4j
+@Component
+public class FullTextIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int COMMENT_WEIGHT = 1;
+    // Saturação de frequência no estilo BM25
+    private static final double K1 = 1.2;
+
+    private final TicketRepository ticketRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+    // Guardados pelo lock de escrita
+    private Index index = new Index();
+    // Alterações recebidas durante uma reconstrução, reaplicadas sobre o índice novo antes da troca
+    private List<Consumer<Index>> pendingDuringRebuild;
+
+    public FullTextIndex(TicketRepository ticketRepository,
+                         CommentRepository commentRepository,
+                         PlatformTransactionManager transactionManager) {
+        this.ticketRepository = ticketRepository;
+        this.commentRepository = commentRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Value
+    public static class Hit {
+        Long ticketId;
+        double score;
+    }
+
+    @Value
+    private static class CommentTerms {
+        Long ticketId;
+        Map<String, Integer> terms;
+    }
+
+    /**
+     * O índice novo é montado fora do lock, e as buscas seguem no índice atual enquanto o banco é
+     * lido. Alterações que chegam nesse meio-tempo são aplicadas aos dois: no atual de imediato e,
+     * em ordem, no novo logo antes da troca.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Index fresh = new Index();
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<TicketTextView> tickets = ticketRepository.streamAllText()) {
+                        tickets.forEach(t -> fresh.putTicket(t.getId(), t.getTitle(), t.getDescription()));
+                    }
+                    try (Stream<CommentTextView> comments = commentRepository.streamAllText()) {
+                        comments.forEach(c -> fresh.putComment(c.getId(), c.getTicketId(), c.getMessage()));
+                    }
+                });
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    pendingDuringRebuild = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild.forEach(change -> change.accept(fresh));
+                pendingDuringRebuild = null;
+                index = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Full-text index rebuilt: {} tickets, {} comments, {} terms",
+                    fresh.ticketTerms.size(), fresh.commentTerms.size(), fresh.postings.size());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTicketEvent(TicketEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED -> indexTicket(event.getTicketId(), event.getTitle(), event.getDescription());
+            case DELETED -> removeTicket(event.getTicketId());
+            default -> {
+                // mudança de status não altera o texto indexado
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCommentEvent(CommentEvent event) {
+        switch (event.getType()) {
+            case CREATED -> indexComment(event.getCommentId(), event.getTicketId(), event.getMessage());
+            case DELETED -> removeComment(event.getCommentId());
+        }
+    }
+
+    public void indexTicket(Long ticketId, String title, String description) {
+        update(target -> target.putTicket(ticketId, title, description));
+    }
+
+    public void removeTicket(Long ticketId) {
+        update(target -> target.removeTicket(ticketId));
+    }
+
+    public void indexComment(Long commentId, Long ticketId, String message) {
+        update(target -> target.putComment(commentId, ticketId, message));
+    }
+
+    public void removeComment(Long commentId) {
+        update(target -> target.removeComment(commentId));
+    }
+
+    private void update(Consumer<Index> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Tickets que contêm ao menos um dos termos, ordenados por relevância (idf × tf saturada,
+     * multiplicado pela fração dos termos da consulta encontrados no ticket).
+     */
+    public List<Hit> search(Set<String> queryTerms, int limit) {
+        lock.readLock().lock();
+        try {
+            int documentCount = Math.max(1, index.ticketTerms.size());
+            Map<Long, Double> scores = new HashMap<>();
+            Map<Long, Integer> matchedTerms = new HashMap<>();
+
+            for (String term : queryTerms) {
+                Map<Long, Integer> termPostings = index.postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                int df = termPostings.size();
+                double idf = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+                for (Map.Entry<Long, Integer> posting : termPostings.entrySet()) {
+                    int tf = posting.getValue();
+                    scores.merge(posting.getKey(), idf * tf * (K1 + 1) / (tf + K1), Double::sum);
+                    matchedTerms.merge(posting.getKey(), 1, Integer::sum);
+                }
+            }
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(Comparator.comparingDouble(Hit::getScore));
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                double coverage = (double) matchedTerms.get(entry.getKey()) / queryTerms.size();
+                top.offer(new Hit(entry.getKey(), entry.getValue() * coverage));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(Comparator.comparingDouble(Hit::getScore).reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Primeiro comentário do ticket que contém algum dos termos, ou null.
+     */
+    public Long findMatchingComment(Long ticketId, Set<String> queryTerms) {
+        lock.readLock().lock();
+        try {
+            Set<Long> comments = index.commentsByTicket.getOrDefault(ticketId, Collections.emptySet());
+            for (Long commentId : comments) {
+                Map<String, Integer> terms = index.commentTerms.get(commentId).getTerms();
+                for (String term : queryTerms) {
+                    if (terms.containsKey(term)) {
+                        return commentId;
+                    }
+                }
+            }
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estrutura do índice; só é acessada sob o lock, ou antes de publicada pela reconstrução.
+     */
+    private static class Index {
+
+        // termo -> (ticketId -> frequência ponderada)
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        // ticketId -> contribuição de título e descrição
+        private final Map<Long, Map<String, Integer>> ticketTerms = new HashMap<>();
+        // commentId -> contribuição do comentário
+        private final Map<Long, CommentTerms> commentTerms = new HashMap<>();
+        private final Map<Long, Set<Long>> commentsByTicket = new HashMap<>();
+
+        private void putTicket(Long ticketId, String title, String description) {
+            Map<String, Integer> previous = ticketTerms.remove(ticketId);
+            if (previous != null) {
+                subtract(ticketId, previous);
+            }
+
+            Map<String, Integer> terms = new HashMap<>();
+            TextAnalyzer.termFrequencies(title).forEach((term, tf) -> terms.merge(term, tf * TITLE_WEIGHT, Integer::sum));
+            TextAnalyzer.termFrequencies(description).forEach((term, tf) -> terms.merge(term, tf * DESCRIPTION_WEIGHT, Integer::sum));
+
+            ticketTerms.put(ticketId, terms);
+            add(ticketId, terms);
+        }
+
+        private void putComment(Long commentId, Long ticketId, String message) {
+            CommentTerms previous = commentTerms.remove(commentId);
+            if (previous != null) {
+                subtract(previous.getTicketId(), previous.getTerms());
+            }
+
+            Map<String, Integer> terms = new HashMap<>();
+            TextAnalyzer.termFrequencies(message).forEach((term, tf) -> terms.put(term, tf * COMMENT_WEIGHT));
+
+            commentTerms.put(commentId, new CommentTerms(ticketId, terms));
+            commentsByTicket.computeIfAbsent(ticketId, id -> new HashSet<>()).add(commentId);
+            add(ticketId, terms);
+        }
+
+        private void add(Long ticketId, Map<String, Integer> terms) {
+            terms.forEach((term, tf) -> postings
+                    .computeIfAbsent(term, t -> new HashMap<>())
+                    .merge(ticketId, tf, Integer::sum));
+        }
+
+        private void subtract(Long ticketId, Map<String, Integer> terms) {
+            terms.forEach((term, tf) -> {
+                Map<Long, Integer> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    return;
+                }
+                termPostings.computeIfPresent(ticketId, (id, current) -> current - tf > 0 ? current - tf : null);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            });
+        }
+
+        private void removeTicket(Long ticketId) {
+            Map<String, Integer> previous = ticketTerms.remove(ticketId);
+            if (previous != null) {
+                subtract(ticketId, previous);
+            }
+            Set<Long> comments = commentsByTicket.remove(ticketId);
+            if (comments != null) {
+                for (Long commentId : comments) {
+                    CommentTerms entry = commentTerms.remove(commentId);
+                    subtract(ticketId, entry.getTerms());
+                }
+            }
+        }
+
+        private void removeComment(Long commentId) {
+            CommentTerms entry = commentTerms.remove(commentId);
+            if (entry != null) {
+                subtract(entry.getTicketId(), entry.getTerms());
+                Set<Long> siblings = commentsByTicket.get(entry.getTicketId());
+                if (siblings != null) {
+                    siblings.remove(commentId);
+                    if (siblings.isEmpty()) {
+                        commentsByTicket.remove(entry.getTicketId());
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.angelo.TicketingSystem.search;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tokenização usada tanto na indexação quanto na consulta e no destaque de trechos:
+ * minúsculas, sem acentos, apenas letras e dígitos, ignorando termos muito curtos.
+ */
+public final class TextAnalyzer {
+
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int SNIPPET_LENGTH = 160;
+
+    private TextAnalyzer() {
+    }
+
+    public static String normalize(String token) {
+        String decomposed = Normalizer.normalize(token, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Frequência de cada termo no texto.
+     */
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        if (text == null) {
+            return frequencies;
+        }
+        Matcher matcher = TOKEN.matcher(text);
+        while (matcher.find()) {
+            String term = normalize(matcher.group());
+            if (term.length() >= MIN_TOKEN_LENGTH) {
+                frequencies.merge(term, 1, Integer::sum);
+            }
+        }
+        return frequencies;
+    }
+
+    public static Set<String> terms(String text) {
+        return termFrequencies(text).keySet();
+    }
+
+    /**
+     * Trecho do texto em torno da primeira ocorrência de um dos termos, com as
+     * ocorrências envolvidas em &lt;mark&gt;. O restante do texto é escapado para HTML.
+     * Retorna null se nenhum termo aparece no texto.
+     */
+    public static String highlight(String text, Set<String> queryTerms) {
+        if (text == null) {
+            return null;
+        }
+        List<int[]> matches = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(text);
+        while (matcher.find()) {
+            if (queryTerms.contains(normalize(matcher.group()))) {
+                matches.add(new int[]{matcher.start(), matcher.end()});
+            }
+        }
+        if (matches.isEmpty()) {
+            return null;
+        }
+
+        int start = Math.max(0, matches.get(0)[0] - SNIPPET_LENGTH / 4);
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+
+        StringBuilder snippet = new StringBuilder();
+        if (start > 0) {
+            snippet.append("...");
+        }
+        int position = start;
+        for (int[] match : matches) {
+            if (match[0] < start) {
+                continue;
+            }
+            if (match[1] > end) {
+                break;
+            }
+            appendEscaped(snippet, text, position, match[0]);
+            snippet.append("<mark>");
+            appendEscaped(snippet, text, match[0], match[1]);
+            snippet.append("</mark>");
+            position = match[1];
+        }
+        appendEscaped(snippet, text, position, end);
+        if (end < text.length()) {
+            snippet.append("...");
+        }
+        return snippet.toString();
+    }
+
+    private static void appendEscaped(StringBuilder out, String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
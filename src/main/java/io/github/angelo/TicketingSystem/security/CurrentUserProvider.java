@@ -0,0 +1,30 @@
+package io.github.angelo.TicketingSystem.security;
+
+import io.github.angelo.TicketingSystem.exception.ResourceNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Acesso ao usuário autenticado da requisição atual, sem consulta ao banco.
+ */
+@Component
+public class CurrentUserProvider {
+
+    public AuthenticatedUser get() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new ResourceNotFoundException("User not authenticated");
+        }
+
+        if (!(authentication.getPrincipal() instanceof AuthenticatedUser principal)) {
+            throw new ResourceNotFoundException("Invalid authentication principal");
+        }
+        return principal;
+    }
+
+    public Long getId() {
+        return get().getId();
+    }
+}
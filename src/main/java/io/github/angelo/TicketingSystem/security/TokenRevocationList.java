@@ -0,0 +1,113 @@
+package io.github.angelo.TicketingSystem.security;
+
+import io.github.angelo.TicketingSystem.model.RevokedToken;
+import io.github.angelo.TicketingSystem.repository.RevokedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * IDs (jti) de access tokens revogados. A verificação por requisição nunca vai ao banco:
+ * o filtro de Bloom descarta quase todos os tokens válidos com poucas operações de bit,
+ * e só os positivos são confirmados no conjunto exato.
+ *
+ * A tabela revoked_token é a fonte de verdade: carregada na inicialização e podada,
+ * junto com a memória, conforme os tokens expiram.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int expectedRevocations;
+
+    // jti -> expiração em epoch millis
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               @Value("${jwt.revocation.expected-size:100000}") int expectedRevocations) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.filter = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        revokedTokenRepository.findByExpiresAtAfter(LocalDateTime.now())
+                .forEach(token -> revoked.put(token.getJti(), toEpochMillis(token.getExpiresAt())));
+        rebuildFilter();
+        log.info("Token revocation list loaded with {} entries", revoked.size());
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        return filter.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    /**
+     * Registra a revogação na tabela; a memória só passa a recusar o token depois do commit,
+     * para não divergir do banco (e das outras instâncias) se a transação for desfeita.
+     */
+    @Transactional
+    public void revoke(String jti, Date expiresAt) {
+        long expiresAtMillis = expiresAt.getTime();
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .expiresAt(LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault()))
+                .build());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revoked.put(jti, expiresAtMillis);
+                filter.put(jti);
+            }
+        });
+    }
+
+    /**
+     * Remove entradas de tokens já expirados e reconstrói o filtro, que não admite remoção.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.prune-interval:600000}")
+    @Transactional
+    public void prune() {
+        long now = System.currentTimeMillis();
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        rebuildFilter();
+        int deletedRows = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        log.debug("Token revocation list pruned: {} in memory ({} removed), {} rows deleted",
+                revoked.size(), before - revoked.size(), deletedRows);
+    }
+
+    private void rebuildFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, revoked.size() * 2), FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+        // jti revogados durante a reconstrução também entram no novo filtro
+        revoked.keySet().forEach(rebuilt::put);
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.angelo.TicketingSystem.security;
+
+import io.github.angelo.TicketingSystem.event.UserEvent;
+import io.github.angelo.TicketingSystem.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Versão atual dos tokens de cada usuário, mantida em memória. Alterar papel, email ou senha
+ * incrementa a versão, e remover o usuário o marca como excluído: tokens emitidos antes
+ * passam a ser recusados sem consultar o banco a cada requisição.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenVersionRegistry {
+
+    private static final int DELETED = -1;
+
+    private final UserRepository userRepository;
+    private final Map<Long, Integer> versions = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        userRepository.findAllTokenVersions()
+                .forEach(v -> versions.put(v.getId(), v.getTokenVersion()));
+        log.info("Token versions loaded for {} users", versions.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserEvent(UserEvent event) {
+        if (event.getType() == UserEvent.Type.DELETED) {
+            versions.put(event.getUserId(), DELETED);
+        } else {
+            versions.put(event.getUserId(), event.getTokenVersion());
+        }
+    }
+
+    /**
+     * Só consulta o banco quando o usuário ainda não está no registro (ex.: criado por
+     * outra instância); o resultado, inclusive a ausência, fica registrado.
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        Integer current = versions.computeIfAbsent(userId, id -> userRepository.findTokenVersionById(id).orElse(DELETED));
+        return current != DELETED && current == tokenVersion;
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.angelo.TicketingSystem.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+
+/**
+ * Tokens já verificados, indexados pelo SHA-256 do token (o token em si não fica em memória).
+ * Cada entrada expira junto com o próprio token; com o cache cheio, o Caffeine despeja as
+ * entradas menos úteis em tempo amortizado constante, sem varrer o mapa a cada inserção.
+ */
+class VerifiedTokenCache {
+
+    private final Cache<ByteBuffer, Claims> entries;
+
+    VerifiedTokenCache(int maxSize) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((ByteBuffer key, Claims claims) ->
+                        Duration.ofMillis(claims.getExpiration().getTime() - System.currentTimeMillis())))
+                .build();
+    }
+
+    Claims get(String token) {
+        return entries.getIfPresent(hash(token));
+    }
+
+    void put(String token, Claims claims) {
+        if (claims.getExpiration() == null) {
+            return;
+        }
+        entries.put(hash(token), claims);
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -2,15 +2,25 @@ package io.github.angelo.TicketingSystem.service;
 
 import io.github.angelo.TicketingSystem.dto.request.AttachmentRequest;
 import io.github.angelo.TicketingSystem.dto.response.AttachmentResponse;
+import io.github.angelo.TicketingSystem.exception.BadRequestException;
 import io.github.angelo.TicketingSystem.exception.ResourceNotFoundException;
 import io.github.angelo.TicketingSystem.model.Attachment;
 import io.github.angelo.TicketingSystem.model.Ticket;
 import io.github.angelo.TicketingSystem.repository.AttachmentRepository;
 import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import io.github.angelo.TicketingSystem.storage.AttachmentContent;
+import io.github.angelo.TicketingSystem.storage.AttachmentContentStore;
+import io.github.angelo.TicketingSystem.storage.StoredContent;
+import io.github.angelo.TicketingSystem.util.ETags;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.time.ZoneId;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,6 +30,7 @@ public class AttachmentService {
 
     private final AttachmentRepository attachmentRepository;
     private final TicketRepository ticketRepository;
+    private final AttachmentContentStore attachmentContentStore;
 
     @Transactional
     public AttachmentResponse createAttachment(AttachmentRequest request) {
@@ -36,6 +47,46 @@ public class AttachmentService {
         return mapToResponse(savedAttachment);
     }
 
+    @Transactional
+    public AttachmentResponse uploadAttachment(Long ticketId, MultipartFile file) {
+        Ticket ticket = ticketRepository.findById(ticketId)
+                .orElseThrow(() -> new ResourceNotFoundException("Ticket not found with id: " + ticketId));
+        if (file.isEmpty()) {
+            throw new BadRequestException("File is required");
+        }
+
+        // Apagado pelo content store se a transação não for confirmada
+        StoredContent stored = attachmentContentStore.store(file);
+
+        Attachment attachment = Attachment.builder()
+                .fileName(resolveFileName(file))
+                .storageKey(stored.key())
+                .contentType(resolveContentType(file))
+                .size(stored.size())
+                .ticket(ticket)
+                .build();
+
+        Attachment savedAttachment = attachmentRepository.save(attachment);
+        return mapToResponse(savedAttachment);
+    }
+
+    @Transactional(readOnly = true)
+    public AttachmentContent getAttachmentContent(Long id) {
+        Attachment attachment = attachmentRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Attachment not found with id: " + id));
+        if (attachment.getStorageKey() == null) {
+            throw new ResourceNotFoundException("Attachment " + id + " has no stored content; use its fileUrl");
+        }
+        return new AttachmentContent(
+                attachmentContentStore.resolve(attachment.getStorageKey()),
+                attachment.getFileName(),
+                attachment.getContentType(),
+                attachment.getSize(),
+                // Conteúdo imutável: a chave identifica a versão
+                ETags.strong(id, attachment.getStorageKey()),
+                attachment.getUploadedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
     @Transactional(readOnly = true)
     public AttachmentResponse getAttachmentById(Long id) {
         Attachment attachment = attachmentRepository.findById(id)
@@ -55,17 +106,42 @@ public class AttachmentService {
 
     @Transactional
     public void deleteAttachment(Long id) {
-        if (!attachmentRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Attachment not found with id: " + id);
+        Attachment attachment = attachmentRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Attachment not found with id: " + id));
+        attachmentRepository.delete(attachment);
+        if (attachment.getStorageKey() != null) {
+            attachmentContentStore.deleteAfterCommit(attachment.getStorageKey());
+        }
+    }
+
+    // Só o nome, sem diretórios enviados por alguns navegadores
+    private String resolveFileName(MultipartFile file) {
+        String fileName = StringUtils.getFilename(StringUtils.cleanPath(
+                file.getOriginalFilename() != null ? file.getOriginalFilename() : ""));
+        if (!StringUtils.hasText(fileName)) {
+            return "file";
+        }
+        return fileName.length() > 255 ? fileName.substring(fileName.length() - 255) : fileName;
+    }
+
+    private String resolveContentType(MultipartFile file) {
+        try {
+            if (file.getContentType() != null && file.getContentType().length() <= 100) {
+                return MediaType.parseMediaType(file.getContentType()).toString();
+            }
+        } catch (InvalidMediaTypeException e) {
+            // Tipo inválido informado pelo cliente: trata como binário genérico
         }
-        attachmentRepository.deleteById(id);
+        return MediaType.APPLICATION_OCTET_STREAM_VALUE;
     }
 
     private AttachmentResponse mapToResponse(Attachment attachment) {
         return AttachmentResponse.builder()
                 .id(attachment.getId())
                 .fileName(attachment.getFileName())
-                .fileUrl(attachment.getFileUrl())
+                .fileUrl(attachment.resolveUrl())
+                .contentType(attachment.getContentType())
+                .size(attachment.getSize())
                 .uploadedAt(attachment.getUploadedAt())
                 .ticketId(attachment.getTicket().getId())
                 .build();
@@ -1,55 +1,95 @@
 package io.github.angelo.TicketingSystem.service;
 
 import io.github.angelo.TicketingSystem.dto.request.LoginRequest;
+import io.github.angelo.TicketingSystem.dto.request.RefreshTokenRequest;
 import io.github.angelo.TicketingSystem.dto.request.RegisterRequest;
 import io.github.angelo.TicketingSystem.dto.response.AuthResponse;
 import io.github.angelo.TicketingSystem.dto.response.UserResponse;
+import io.github.angelo.TicketingSystem.event.UserEvent;
 import io.github.angelo.TicketingSystem.exception.DuplicateResourceException;
+import io.github.angelo.TicketingSystem.exception.InvalidTokenException;
+import io.github.angelo.TicketingSystem.model.RefreshToken;
 import io.github.angelo.TicketingSystem.model.User;
+import io.github.angelo.TicketingSystem.repository.RefreshTokenRepository;
 import io.github.angelo.TicketingSystem.repository.UserRepository;
+import io.github.angelo.TicketingSystem.security.AuthenticatedUser;
 import io.github.angelo.TicketingSystem.security.JwtService;
+import io.github.angelo.TicketingSystem.security.TokenRevocationList;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationList tokenRevocationList;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    @Value("${jwt.refresh-expiration:1209600000}") // 14 dias em milissegundos
+    private long refreshExpiration;
+
+    /**
+     * O hash é calculado antes da transação: o BCrypt espera no pool de hash sem segurar uma conexão
+     * do banco. A verificação do email, a gravação e a emissão dos tokens vêm depois, numa transação curta.
+     */
     public AuthResponse register(RegisterRequest request) {
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new DuplicateResourceException("Email already exists: " + request.getEmail());
-        }
+        String encodedPassword = passwordEncoder.encode(request.getPassword());
 
-        User user = User.builder()
-                .name(request.getName())
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .role(request.getRole())
-                .build();
+        return transactionTemplate.execute(status -> {
+            if (userRepository.existsByEmail(request.getEmail())) {
+                throw new DuplicateResourceException("Email already exists: " + request.getEmail());
+            }
 
-        User savedUser = userRepository.save(user);
+            User user = User.builder()
+                    .name(request.getName())
+                    .email(request.getEmail())
+                    .password(encodedPassword)
+                    .role(request.getRole())
+                    .build();
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(savedUser.getEmail());
-        String token = jwtService.generateToken(userDetails);
+            User savedUser = userRepository.save(user);
+            eventPublisher.publishEvent(UserEvent.builder()
+                    .type(UserEvent.Type.CREATED)
+                    .userId(savedUser.getId())
+                    .tokenVersion(savedUser.getTokenVersion())
+                    .name(savedUser.getName())
+                    .build());
 
-        UserResponse userResponse = mapToResponse(savedUser);
-        return AuthResponse.of(token, userResponse);
+            return issueTokens(savedUser);
+        });
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Sem transação própria: o BCrypt espera no pool de hash sem segurar uma conexão do banco,
+     * e cada acesso ao repositório abre e devolve a sua.
+     */
     public AuthResponse login(LoginRequest request) {
         authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
@@ -61,11 +101,93 @@ public class AuthService {
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-        String token = jwtService.generateToken(userDetails);
+        return issueTokens(user);
+    }
+
+    /**
+     * Troca um refresh token válido por um novo par (rotação): o token apresentado é revogado.
+     * Reapresentar um token já rotacionado indica vazamento, então todos os refresh tokens
+     * do usuário são revogados. Um token emitido antes de uma troca de senha, email ou papel
+     * é recusado mesmo que ainda esteja ativo.
+     */
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(request.getRefreshToken()))
+                .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+
+        if (current.isRevoked()) {
+            throw reuseDetected(current);
+        }
+        if (current.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new InvalidTokenException("Refresh token expired");
+        }
+        if (current.getTokenVersion() != current.getUser().getTokenVersion()) {
+            refreshTokenRepository.revokeIfActive(current.getId());
+            throw new InvalidTokenException("Refresh token was issued before a credential change");
+        }
+        // O UPDATE condicional decide entre requisições concorrentes; 0 linhas é reuso do token
+        if (refreshTokenRepository.revokeIfActive(current.getId()) != 1) {
+            throw reuseDetected(current);
+        }
+
+        return issueTokens(current.getUser());
+    }
+
+    private InvalidTokenException reuseDetected(RefreshToken token) {
+        refreshTokenRepository.revokeAllByUserId(token.getUser().getId());
+        return new InvalidTokenException("Refresh token has already been used");
+    }
+
+    /**
+     * Revoga o refresh token e, se informado, o access token da sessão atual.
+     */
+    @Transactional
+    public void logout(RefreshTokenRequest request, String accessToken) {
+        refreshTokenRepository.findByTokenHash(hash(request.getRefreshToken()))
+                .ifPresent(token -> token.setRevoked(true));
+
+        if (accessToken != null) {
+            try {
+                Claims claims = jwtService.validateToken(accessToken);
+                if (claims.getId() != null) {
+                    tokenRevocationList.revoke(claims.getId(), claims.getExpiration());
+                }
+            } catch (JwtException e) {
+                // token expirado ou inválido: não há o que revogar
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.prune-interval:600000}")
+    @Transactional
+    public void purgeExpiredRefreshTokens() {
+        refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private AuthResponse issueTokens(User user) {
+        String token = jwtService.generateToken(AuthenticatedUser.from(user));
+
+        byte[] randomBytes = new byte[32];
+        SECURE_RANDOM.nextBytes(randomBytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(refreshToken))
+                .user(user)
+                .tokenVersion(user.getTokenVersion())
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshExpiration)))
+                .build());
 
         UserResponse userResponse = mapToResponse(user);
-        return AuthResponse.of(token, userResponse);
+        return AuthResponse.of(token, jwtService.getExpirationMillis() / 1000, refreshToken, userResponse);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     private UserResponse mapToResponse(User user) {
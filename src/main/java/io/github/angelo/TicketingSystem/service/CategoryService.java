@@ -1,12 +1,18 @@
 package io.github.angelo.TicketingSystem.service;
 
+import io.github.angelo.TicketingSystem.cache.ReferenceDataCache;
 import io.github.angelo.TicketingSystem.dto.request.CategoryRequest;
 import io.github.angelo.TicketingSystem.dto.response.CategoryResponse;
+import io.github.angelo.TicketingSystem.event.ReferenceDataChangedEvent;
+import io.github.angelo.TicketingSystem.exception.ConflictException;
 import io.github.angelo.TicketingSystem.exception.DuplicateResourceException;
 import io.github.angelo.TicketingSystem.exception.ResourceNotFoundException;
 import io.github.angelo.TicketingSystem.model.Category;
 import io.github.angelo.TicketingSystem.repository.CategoryRepository;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import io.github.angelo.TicketingSystem.util.ETags;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +24,9 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final TicketRepository ticketRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CategoryResponse createCategory(CategoryRequest request) {
@@ -31,23 +40,29 @@ public class CategoryService {
                 .build();
 
         Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.Type.CATEGORY, savedCategory.getId()));
         return mapToResponse(savedCategory);
     }
 
-    @Transactional(readOnly = true)
     public CategoryResponse getCategoryById(Long id) {
-        Category category = categoryRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + id));
-        return mapToResponse(category);
+        return mapToResponse(findCategory(id));
+    }
+
+    public String getCategoryETag(Long id) {
+        Category category = findCategory(id);
+        return ETags.strong(category.getId(), category.getName(), category.getDescription());
     }
 
-    @Transactional(readOnly = true)
     public List<CategoryResponse> getAllCategories() {
-        return categoryRepository.findAll().stream()
+        return referenceDataCache.getCategories().stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    public String getCategoriesETag() {
+        return referenceDataCache.getETag(ReferenceDataChangedEvent.Type.CATEGORY);
+    }
+
     @Transactional
     public CategoryResponse updateCategory(Long id, CategoryRequest request) {
         Category category = categoryRepository.findById(id)
@@ -60,6 +75,7 @@ public class CategoryService {
         category.setName(request.getName());
         category.setDescription(request.getDescription());
         Category updatedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.Type.CATEGORY, updatedCategory.getId()));
         return mapToResponse(updatedCategory);
     }
 
@@ -68,7 +84,16 @@ public class CategoryService {
         if (!categoryRepository.existsById(id)) {
             throw new ResourceNotFoundException("Category not found with id: " + id);
         }
+        if (ticketRepository.existsByCategoryId(id)) {
+            throw new ConflictException("Category " + id + " is used by tickets; move them to another category first");
+        }
         categoryRepository.deleteById(id);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.Type.CATEGORY, id));
+    }
+
+    private Category findCategory(Long id) {
+        return referenceDataCache.findCategory(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + id));
     }
 
     private CategoryResponse mapToResponse(Category category) {
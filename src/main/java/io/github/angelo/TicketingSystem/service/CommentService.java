@@ -1,8 +1,11 @@
 package io.github.angelo.TicketingSystem.service;
 
+import io.github.angelo.TicketingSystem.cache.CommentListVersions;
 import io.github.angelo.TicketingSystem.dto.request.CommentRequest;
 import io.github.angelo.TicketingSystem.dto.response.CommentResponse;
 import io.github.angelo.TicketingSystem.dto.response.UserResponse;
+import io.github.angelo.TicketingSystem.event.CommentEvent;
+import io.github.angelo.TicketingSystem.event.TicketSnapshot;
 import io.github.angelo.TicketingSystem.exception.ResourceNotFoundException;
 import io.github.angelo.TicketingSystem.model.Comment;
 import io.github.angelo.TicketingSystem.model.Ticket;
@@ -10,7 +13,9 @@ import io.github.angelo.TicketingSystem.model.User;
 import io.github.angelo.TicketingSystem.repository.CommentRepository;
 import io.github.angelo.TicketingSystem.repository.TicketRepository;
 import io.github.angelo.TicketingSystem.repository.UserRepository;
+import io.github.angelo.TicketingSystem.util.ETags;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +29,8 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final TicketRepository ticketRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CommentListVersions commentListVersions;
 
     @Transactional
     public CommentResponse createComment(CommentRequest request) {
@@ -40,6 +47,13 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(CommentEvent.builder()
+                .type(CommentEvent.Type.CREATED)
+                .commentId(savedComment.getId())
+                .ticketId(ticket.getId())
+                .message(savedComment.getMessage())
+                .ticket(TicketSnapshot.of(ticket))
+                .build());
         return mapToResponse(savedComment);
     }
 
@@ -50,6 +64,23 @@ public class CommentService {
         return mapToResponse(comment);
     }
 
+    // Comentários não são editados: basta o id e a geração dos dados de usuário embutidos
+    @Transactional(readOnly = true)
+    public String getCommentETag(Long id) {
+        if (!commentRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Comment not found with id: " + id);
+        }
+        return ETags.strong(id, commentListVersions.getGeneration());
+    }
+
+    @Transactional(readOnly = true)
+    public String getCommentsByTicketETag(Long ticketId) {
+        if (!ticketRepository.existsById(ticketId)) {
+            throw new ResourceNotFoundException("Ticket not found with id: " + ticketId);
+        }
+        return ETags.strong(ticketId, commentListVersions.getListVersion(ticketId), commentListVersions.getGeneration());
+    }
+
     @Transactional(readOnly = true)
     public List<CommentResponse> getCommentsByTicket(Long ticketId) {
         if (!ticketRepository.existsById(ticketId)) {
@@ -62,10 +93,16 @@ public class CommentService {
 
     @Transactional
     public void deleteComment(Long id) {
-        if (!commentRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Comment not found with id: " + id);
-        }
-        commentRepository.deleteById(id);
+        Comment comment = commentRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Comment not found with id: " + id));
+        Ticket ticket = comment.getTicket();
+        commentRepository.delete(comment);
+        eventPublisher.publishEvent(CommentEvent.builder()
+                .type(CommentEvent.Type.DELETED)
+                .commentId(id)
+                .ticketId(ticket.getId())
+                .ticket(TicketSnapshot.of(ticket))
+                .build());
     }
 
     private CommentResponse mapToResponse(Comment comment) {
@@ -74,7 +111,7 @@ public class CommentService {
                 .message(comment.getMessage())
                 .createdAt(comment.getCreatedAt())
                 .ticketId(comment.getTicket().getId())
-                .user(mapUserToResponse(comment.getUser()))
+                .user(comment.getUser() != null ? mapUserToResponse(comment.getUser()) : null)
                 .build();
     }
 
@@ -0,0 +1,72 @@
+package io.github.angelo.TicketingSystem.service;
+
+import io.github.angelo.TicketingSystem.cache.ReferenceDataCache;
+import io.github.angelo.TicketingSystem.dto.request.TicketFacetRequest;
+import io.github.angelo.TicketingSystem.dto.response.StatCountResponse;
+import io.github.angelo.TicketingSystem.dto.response.TicketFacetResponse;
+import io.github.angelo.TicketingSystem.exception.BadRequestException;
+import io.github.angelo.TicketingSystem.model.Category;
+import io.github.angelo.TicketingSystem.model.Priority;
+import io.github.angelo.TicketingSystem.model.Status;
+import io.github.angelo.TicketingSystem.search.FacetIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class FacetSearchService {
+
+    private static final int MAX_RESULTS = 1000;
+
+    private final FacetIndex facetIndex;
+    private final ReferenceDataCache referenceDataCache;
+
+    /**
+     * Respondido inteiramente pelo índice de bitmaps e pelo cache de dados de referência;
+     * os detalhes dos chamados retornados ficam a cargo de GET /api/tickets/{id}.
+     */
+    public TicketFacetResponse search(TicketFacetRequest request) {
+        if (request.getLimit() < 0 || request.getLimit() > MAX_RESULTS) {
+            throw new BadRequestException("Limit must be between 0 and " + MAX_RESULTS);
+        }
+
+        Map<FacetIndex.Facet, Set<Long>> selected = new EnumMap<>(FacetIndex.Facet.class);
+        selected.put(FacetIndex.Facet.STATUS, request.getStatusIds());
+        selected.put(FacetIndex.Facet.PRIORITY, request.getPriorityIds());
+        selected.put(FacetIndex.Facet.CATEGORY, request.getCategoryIds());
+        selected.put(FacetIndex.Facet.ASSIGNEE, request.getAssignedToIds());
+
+        FacetIndex.Result result = facetIndex.query(selected, request.getLimit());
+        Map<FacetIndex.Facet, Map<Long, Long>> counts = result.getCounts();
+
+        return TicketFacetResponse.builder()
+                .total(result.getTotal())
+                .ticketIds(result.getTicketIds())
+                .statuses(toCounts(counts.get(FacetIndex.Facet.STATUS),
+                        id -> referenceDataCache.findStatus(id).map(Status::getName).orElse(null)))
+                .priorities(toCounts(counts.get(FacetIndex.Facet.PRIORITY),
+                        id -> referenceDataCache.findPriority(id).map(Priority::getName).orElse(null)))
+                .categories(toCounts(counts.get(FacetIndex.Facet.CATEGORY),
+                        id -> referenceDataCache.findCategory(id).map(Category::getName).orElse(null)))
+                // Responsáveis vêm só com o id, para não consultar a tabela de usuários
+                .assignees(toCounts(counts.get(FacetIndex.Facet.ASSIGNEE),
+                        id -> id == FacetIndex.UNASSIGNED ? "Unassigned" : null))
+                .build();
+    }
+
+    private List<StatCountResponse> toCounts(Map<Long, Long> counts, Function<Long, String> names) {
+        return counts.entrySet().stream()
+                .map(entry -> StatCountResponse.builder()
+                        .id(entry.getKey())
+                        .name(names.apply(entry.getKey()))
+                        .count(entry.getValue())
+                        .build())
+                .sorted(Comparator.comparingLong(StatCountResponse::getCount).reversed()
+                        .thenComparing(StatCountResponse::getId))
+                .collect(Collectors.toList());
+    }
+}
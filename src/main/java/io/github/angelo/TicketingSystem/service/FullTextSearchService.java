@@ -0,0 +1,93 @@
+package io.github.angelo.TicketingSystem.service;
+
+import io.github.angelo.TicketingSystem.dto.response.TicketSearchHitResponse;
+import io.github.angelo.TicketingSystem.exception.BadRequestException;
+import io.github.angelo.TicketingSystem.repository.CommentRepository;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import io.github.angelo.TicketingSystem.repository.projection.CommentTextView;
+import io.github.angelo.TicketingSystem.repository.projection.TicketTextView;
+import io.github.angelo.TicketingSystem.search.FullTextIndex;
+import io.github.angelo.TicketingSystem.search.TextAnalyzer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class FullTextSearchService {
+
+    private static final int MAX_RESULTS = 100;
+
+    private final FullTextIndex fullTextIndex;
+    private final TicketRepository ticketRepository;
+    private final CommentRepository commentRepository;
+
+    /**
+     * A classificação vem inteira do índice em memória; o banco só é consultado
+     * para montar os trechos destacados dos tickets retornados.
+     */
+    @Transactional(readOnly = true)
+    public List<TicketSearchHitResponse> search(String query, int limit) {
+        if (limit < 1) {
+            throw new BadRequestException("Limit must be greater than zero");
+        }
+        Set<String> terms = TextAnalyzer.terms(query);
+        if (terms.isEmpty()) {
+            throw new BadRequestException("Query must contain at least one searchable term");
+        }
+
+        List<FullTextIndex.Hit> hits = fullTextIndex.search(terms, Math.min(limit, MAX_RESULTS));
+        if (hits.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, TicketTextView> tickets = ticketRepository.findTextByIdIn(
+                        hits.stream().map(FullTextIndex.Hit::getTicketId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(TicketTextView::getId, Function.identity()));
+
+        List<TicketSearchHitResponse> responses = new ArrayList<>();
+        Map<Long, TicketSearchHitResponse> pendingComments = new HashMap<>();
+        for (FullTextIndex.Hit hit : hits) {
+            TicketTextView ticket = tickets.get(hit.getTicketId());
+            if (ticket == null) {
+                // excluído depois da consulta ao índice; o evento ainda não foi aplicado
+                continue;
+            }
+
+            TicketSearchHitResponse response = TicketSearchHitResponse.builder()
+                    .ticketId(ticket.getId())
+                    .title(ticket.getTitle())
+                    .score(hit.getScore())
+                    .build();
+
+            String snippet = TextAnalyzer.highlight(ticket.getTitle(), terms);
+            if (snippet != null) {
+                response.setMatchedIn("title");
+                response.setSnippet(snippet);
+            } else if ((snippet = TextAnalyzer.highlight(ticket.getDescription(), terms)) != null) {
+                response.setMatchedIn("description");
+                response.setSnippet(snippet);
+            } else {
+                Long commentId = fullTextIndex.findMatchingComment(ticket.getId(), terms);
+                if (commentId != null) {
+                    response.setMatchedIn("comment");
+                    response.setCommentId(commentId);
+                    pendingComments.put(commentId, response);
+                }
+            }
+            responses.add(response);
+        }
+
+        if (!pendingComments.isEmpty()) {
+            for (CommentTextView comment : commentRepository.findTextByIdIn(pendingComments.keySet())) {
+                pendingComments.get(comment.getId()).setSnippet(TextAnalyzer.highlight(comment.getMessage(), terms));
+            }
+        }
+        return responses;
+    }
+}
@@ -1,12 +1,18 @@
 package io.github.angelo.TicketingSystem.service;
 
+import io.github.angelo.TicketingSystem.cache.ReferenceDataCache;
 import io.github.angelo.TicketingSystem.dto.request.PriorityRequest;
 import io.github.angelo.TicketingSystem.dto.response.PriorityResponse;
+import io.github.angelo.TicketingSystem.event.ReferenceDataChangedEvent;
+import io.github.angelo.TicketingSystem.exception.ConflictException;
 import io.github.angelo.TicketingSystem.exception.DuplicateResourceException;
 import io.github.angelo.TicketingSystem.exception.ResourceNotFoundException;
 import io.github.angelo.TicketingSystem.model.Priority;
 import io.github.angelo.TicketingSystem.repository.PriorityRepository;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import io.github.angelo.TicketingSystem.util.ETags;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +24,9 @@ import java.util.stream.Collectors;
 public class PriorityService {
 
     private final PriorityRepository priorityRepository;
+    private final TicketRepository ticketRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public PriorityResponse createPriority(PriorityRequest request) {
@@ -31,23 +40,29 @@ public class PriorityService {
                 .build();
 
         Priority savedPriority = priorityRepository.save(priority);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.Type.PRIORITY, savedPriority.getId()));
         return mapToResponse(savedPriority);
     }
 
-    @Transactional(readOnly = true)
     public PriorityResponse getPriorityById(Long id) {
-        Priority priority = priorityRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Priority not found with id: " + id));
-        return mapToResponse(priority);
+        return mapToResponse(findPriority(id));
+    }
+
+    public String getPriorityETag(Long id) {
+        Priority priority = findPriority(id);
+        return ETags.strong(priority.getId(), priority.getName(), priority.getLevel());
     }
 
-    @Transactional(readOnly = true)
     public List<PriorityResponse> getAllPriorities() {
-        return priorityRepository.findAll().stream()
+        return referenceDataCache.getPriorities().stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    public String getPrioritiesETag() {
+        return referenceDataCache.getETag(ReferenceDataChangedEvent.Type.PRIORITY);
+    }
+
     @Transactional
     public PriorityResponse updatePriority(Long id, PriorityRequest request) {
         Priority priority = priorityRepository.findById(id)
@@ -60,6 +75,7 @@ public class PriorityService {
         priority.setName(request.getName());
         priority.setLevel(request.getLevel());
         Priority updatedPriority = priorityRepository.save(priority);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.Type.PRIORITY, updatedPriority.getId()));
         return mapToResponse(updatedPriority);
     }
 
@@ -68,7 +84,16 @@ public class PriorityService {
         if (!priorityRepository.existsById(id)) {
             throw new ResourceNotFoundException("Priority not found with id: " + id);
         }
+        if (ticketRepository.existsByPriorityId(id)) {
+            throw new ConflictException("Priority " + id + " is used by tickets; move them to another priority first");
+        }
         priorityRepository.deleteById(id);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.Type.PRIORITY, id));
+    }
+
+    private Priority findPriority(Long id) {
+        return referenceDataCache.findPriority(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Priority not found with id: " + id));
     }
 
     private PriorityResponse mapToResponse(Priority priority) {
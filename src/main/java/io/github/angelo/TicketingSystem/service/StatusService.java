@@ -1,12 +1,18 @@
 package io.github.angelo.TicketingSystem.service;
 
+import io.github.angelo.TicketingSystem.cache.ReferenceDataCache;
 import io.github.angelo.TicketingSystem.dto.request.StatusRequest;
 import io.github.angelo.TicketingSystem.dto.response.StatusResponse;
+import io.github.angelo.TicketingSystem.event.ReferenceDataChangedEvent;
+import io.github.angelo.TicketingSystem.exception.ConflictException;
 import io.github.angelo.TicketingSystem.exception.DuplicateResourceException;
 import io.github.angelo.TicketingSystem.exception.ResourceNotFoundException;
 import io.github.angelo.TicketingSystem.model.Status;
 import io.github.angelo.TicketingSystem.repository.StatusRepository;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import io.github.angelo.TicketingSystem.util.ETags;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +24,9 @@ import java.util.stream.Collectors;
 public class StatusService {
 
     private final StatusRepository statusRepository;
+    private final TicketRepository ticketRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public StatusResponse createStatus(StatusRequest request) {
@@ -30,23 +39,30 @@ public class StatusService {
                 .build();
 
         Status savedStatus = statusRepository.save(status);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.Type.STATUS, savedStatus.getId()));
         return mapToResponse(savedStatus);
     }
 
-    @Transactional(readOnly = true)
+    // Leituras servidas pelo ReferenceDataCache, a mesma fonte dos ETags
     public StatusResponse getStatusById(Long id) {
-        Status status = statusRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Status not found with id: " + id));
-        return mapToResponse(status);
+        return mapToResponse(findStatus(id));
+    }
+
+    public String getStatusETag(Long id) {
+        Status status = findStatus(id);
+        return ETags.strong(status.getId(), status.getName());
     }
 
-    @Transactional(readOnly = true)
     public List<StatusResponse> getAllStatuses() {
-        return statusRepository.findAll().stream()
+        return referenceDataCache.getStatuses().stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    public String getStatusesETag() {
+        return referenceDataCache.getETag(ReferenceDataChangedEvent.Type.STATUS);
+    }
+
     @Transactional
     public StatusResponse updateStatus(Long id, StatusRequest request) {
         Status status = statusRepository.findById(id)
@@ -58,6 +74,7 @@ public class StatusService {
 
         status.setName(request.getName());
         Status updatedStatus = statusRepository.save(status);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.Type.STATUS, updatedStatus.getId()));
         return mapToResponse(updatedStatus);
     }
 
@@ -66,7 +83,16 @@ public class StatusService {
         if (!statusRepository.existsById(id)) {
             throw new ResourceNotFoundException("Status not found with id: " + id);
         }
+        if (ticketRepository.existsByStatusId(id)) {
+            throw new ConflictException("Status " + id + " is used by tickets; move them to another status first");
+        }
         statusRepository.deleteById(id);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.Type.STATUS, id));
+    }
+
+    private Status findStatus(Long id) {
+        return referenceDataCache.findStatus(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Status not found with id: " + id));
     }
 
     private StatusResponse mapToResponse(Status status) {
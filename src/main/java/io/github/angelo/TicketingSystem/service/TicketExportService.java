@@ -0,0 +1,174 @@
+package io.github.angelo.TicketingSystem.service;
+
+import io.github.angelo.TicketingSystem.exception.BadRequestException;
+import io.github.angelo.TicketingSystem.exception.ServiceUnavailableException;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import io.github.angelo.TicketingSystem.repository.projection.TicketExportView;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * Exportação de todos os chamados escrevendo cada linha na saída assim que é lida do cursor,
+ * sem montar a lista em memória: o uso de heap independe do número de chamados.
+ * <p>
+ * O cursor exige uma transação aberta durante toda a escrita, e portanto uma conexão do pool
+ * presa pelo tempo do download, que depende da velocidade do cliente. Por isso as exportações
+ * rodam na thread assíncrona do MVC (sem ocupar uma thread do Tomcat), até
+ * {@code tickets.export.max-concurrent} por vez, e o tempo de cada uma é limitado por
+ * {@code spring.mvc.async.request-timeout}.
+ */
+@Service
+public class TicketExportService {
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+    private static final String CSV_HEADER = "id,title,description,createdAt,updatedAt,userId,userEmail,"
+            + "assignedToId,assignedToEmail,category,priority,status";
+
+    private final TicketRepository ticketRepository;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore slots;
+    private final long retryAfterSeconds;
+
+    public TicketExportService(TicketRepository ticketRepository,
+                               JsonMapper jsonMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${tickets.export.max-concurrent:2}") int maxConcurrent,
+                               @Value("${tickets.export.retry-after-seconds:30}") long retryAfterSeconds) {
+        this.ticketRepository = ticketRepository;
+        this.jsonMapper = jsonMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.slots = new Semaphore(maxConcurrent);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Getter
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static Format from(String value) {
+            try {
+                return Format.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unsupported export format: " + value + " (use ndjson or csv)");
+            }
+        }
+    }
+
+    /**
+     * Reserva uma vaga e devolve o corpo da resposta; a vaga é liberada quando a escrita termina,
+     * com sucesso ou não. Sem vaga livre, responde 503 com Retry-After antes de abrir a transação.
+     */
+    public StreamingResponseBody open(Format format) {
+        if (!slots.tryAcquire()) {
+            throw new ServiceUnavailableException(
+                    "Too many concurrent exports. Please retry shortly.", retryAfterSeconds);
+        }
+        return output -> {
+            try {
+                export(format, output);
+            } finally {
+                slots.release();
+            }
+        };
+    }
+
+    private void export(Format format, OutputStream output) throws IOException {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> write(format, output));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void write(Format format, OutputStream output) {
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            if (format == Format.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            try (Stream<TicketExportView> rows = ticketRepository.streamForExport()) {
+                Iterator<TicketExportView> iterator = rows.iterator();
+                int written = 0;
+                while (iterator.hasNext()) {
+                    TicketExportView row = iterator.next();
+                    if (format == Format.CSV) {
+                        writeCsvRow(writer, row);
+                    } else {
+                        writer.write(jsonMapper.writeValueAsString(row));
+                        writer.write('\n');
+                    }
+                    if (++written % FLUSH_EVERY_ROWS == 0) {
+                        writer.flush();
+                    }
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            // O cliente desconectou ou o tempo acabou: a transação é desfeita e a conexão volta ao pool
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsvRow(Writer writer, TicketExportView row) throws IOException {
+        writer.write(String.join(",",
+                String.valueOf(row.getId()),
+                csv(row.getTitle()),
+                csv(row.getDescription()),
+                csv(row.getCreatedAt()),
+                csv(row.getUpdatedAt()),
+                String.valueOf(row.getUserId()),
+                csv(row.getUserEmail()),
+                row.getAssignedToId() != null ? String.valueOf(row.getAssignedToId()) : "",
+                csv(row.getAssignedToEmail()),
+                csv(row.getCategory()),
+                csv(row.getPriority()),
+                csv(row.getStatus())));
+        writer.write('\n');
+    }
+
+    private String csv(LocalDateTime value) {
+        return value != null ? value.toString() : "";
+    }
+
+    // RFC 4180: campos com vírgula, aspas ou quebra de linha vão entre aspas, com aspas duplicadas
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
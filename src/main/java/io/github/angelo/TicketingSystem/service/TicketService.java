@@ -1,48 +1,93 @@
 package io.github.angelo.TicketingSystem.service;
 
+import io.github.angelo.TicketingSystem.cache.ReferenceDataCache;
+import io.github.angelo.TicketingSystem.cache.TicketResponseCache;
+import io.github.angelo.TicketingSystem.dto.request.BulkStatusUpdateRequest;
+import io.github.angelo.TicketingSystem.dto.request.BulkTicketRequest;
 import io.github.angelo.TicketingSystem.dto.request.StatusUpdateRequest;
 import io.github.angelo.TicketingSystem.dto.request.TicketRequest;
+import io.github.angelo.TicketingSystem.dto.request.TicketSearchRequest;
 import io.github.angelo.TicketingSystem.dto.response.*;
+import io.github.angelo.TicketingSystem.event.TicketEvent;
+import io.github.angelo.TicketingSystem.event.TicketSnapshot;
+import io.github.angelo.TicketingSystem.exception.BadRequestException;
+import io.github.angelo.TicketingSystem.exception.ConflictException;
+import io.github.angelo.TicketingSystem.exception.PreconditionFailedException;
 import io.github.angelo.TicketingSystem.exception.ResourceNotFoundException;
 import io.github.angelo.TicketingSystem.model.*;
 import io.github.angelo.TicketingSystem.repository.*;
+import io.github.angelo.TicketingSystem.repository.projection.TicketStatusView;
+import io.github.angelo.TicketingSystem.repository.projection.TicketSummaryView;
+import io.github.angelo.TicketingSystem.security.CurrentUserProvider;
+import io.github.angelo.TicketingSystem.storage.AttachmentContentStore;
+import io.github.angelo.TicketingSystem.util.ChangeWatermark;
+import io.github.angelo.TicketingSystem.util.ETags;
+import io.github.angelo.TicketingSystem.util.PageCursor;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TicketService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BULK_STATUS_TICKETS = 10000;
+    private static final int BULK_CHUNK_SIZE = 500;
+    private static final int MAX_CHANGES_PAGE_SIZE = 1000;
+    private static final int STATUS_CAS_ATTEMPTS = 10;
+    private static final Set<String> SEARCH_SORT_FIELDS = Set.of("createdAt", "updatedAt", "title", "priority", "status");
+
     private final TicketRepository ticketRepository;
     private final UserRepository userRepository;
-    private final CategoryRepository categoryRepository;
-    private final PriorityRepository priorityRepository;
-    private final StatusRepository statusRepository;
     private final StatusHistoryRepository statusHistoryRepository;
+    private final TicketTombstoneRepository ticketTombstoneRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final CurrentUserProvider currentUserProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final TicketResponseCache ticketResponseCache;
+    private final JsonMapper jsonMapper;
+    private final AttachmentContentStore attachmentContentStore;
+
+    // Margem para transações que gravaram updatedAt antes de quem já foi entregue, mas commitaram depois
+    @Value("${tickets.sync.safety-lag:5s}")
+    private Duration syncSafetyLag;
+
+    @Value("${tickets.sync.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
 
     @Transactional
     public TicketResponse createTicket(TicketRequest request) {
         // Obter usuário logado do contexto de segurança
         User user = getCurrentAuthenticatedUser();
 
-        Category category = categoryRepository.findById(request.getCategoryId())
+        Category category = referenceDataCache.findCategory(request.getCategoryId())
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + request.getCategoryId()));
 
-        Priority priority = priorityRepository.findById(request.getPriorityId())
+        Priority priority = referenceDataCache.findPriority(request.getPriorityId())
                 .orElseThrow(() -> new ResourceNotFoundException("Priority not found with id: " + request.getPriorityId()));
 
         // Get default status "Open" or first status
-        Status defaultStatus = statusRepository.findByName("Open")
-                .orElseGet(() -> statusRepository.findAll().stream()
-                        .findFirst()
-                        .orElseThrow(() -> new ResourceNotFoundException("No status found in the system")));
+        Status defaultStatus = referenceDataCache.findStatusByName("Open")
+                .or(referenceDataCache::findFirstStatus)
+                .orElseThrow(() -> new ResourceNotFoundException("No status found in the system"));
 
         User assignedTo = null;
         if (request.getAssignedToId() != null) {
@@ -71,53 +116,216 @@ public class TicketService {
                 .build();
         statusHistoryRepository.save(initialHistory);
 
+        publishEvent(TicketEvent.Type.CREATED, savedTicket);
         return mapToResponse(savedTicket);
     }
 
+    @Transactional
+    public BulkTicketResponse createTicketsBulk(BulkTicketRequest request) {
+        List<TicketRequest> items = request.getTickets();
+        User user = getCurrentAuthenticatedUser();
+
+        Status defaultStatus = referenceDataCache.findStatusByName("Open")
+                .or(referenceDataCache::findFirstStatus)
+                .orElseThrow(() -> new ResourceNotFoundException("No status found in the system"));
+
+        // Responsáveis resolvidos em uma única consulta para o lote inteiro
+        Set<Long> assigneeIds = userRepository.findExistingIds(items.stream()
+                .filter(Objects::nonNull)
+                .map(TicketRequest::getAssignedToId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        List<BulkItemResult> results = new ArrayList<>(items.size());
+        List<Ticket> tickets = new ArrayList<>(items.size());
+        List<BulkItemResult> createdResults = new ArrayList<>(items.size());
+
+        for (int index = 0; index < items.size(); index++) {
+            TicketRequest item = items.get(index);
+            List<String> errors = validateBulkItem(item, assigneeIds);
+            BulkItemResult result = BulkItemResult.builder().index(index).build();
+            results.add(result);
+            if (!errors.isEmpty()) {
+                result.setErrors(errors);
+                continue;
+            }
+
+            tickets.add(Ticket.builder()
+                    .title(item.getTitle())
+                    .description(item.getDescription())
+                    .user(user)
+                    .assignedTo(item.getAssignedToId() != null ? userRepository.getReferenceById(item.getAssignedToId()) : null)
+                    .category(referenceDataCache.findCategory(item.getCategoryId()).orElseThrow())
+                    .priority(referenceDataCache.findPriority(item.getPriorityId()).orElseThrow())
+                    .status(defaultStatus)
+                    .build());
+            createdResults.add(result);
+        }
+
+        // IDs vêm da sequence (pooled-lo): os INSERTs de tickets e históricos saem em lotes JDBC no flush
+        List<Ticket> savedTickets = ticketRepository.saveAll(tickets);
+        List<StatusHistory> histories = new ArrayList<>(savedTickets.size());
+        for (int i = 0; i < savedTickets.size(); i++) {
+            Ticket ticket = savedTickets.get(i);
+            createdResults.get(i).setTicketId(ticket.getId());
+            histories.add(StatusHistory.builder()
+                    .ticket(ticket)
+                    .oldStatus(null)
+                    .newStatus(defaultStatus)
+                    .changedBy(user)
+                    .build());
+            publishEvent(TicketEvent.Type.CREATED, ticket);
+        }
+        statusHistoryRepository.saveAll(histories);
+
+        return BulkTicketResponse.builder()
+                .created(tickets.size())
+                .failed(items.size() - tickets.size())
+                .results(results)
+                .build();
+    }
+
+    public record TicketJson(String etag, byte[] json) {
+    }
+
+    /**
+     * Versão do chamado (@Version) lida pelo índice da chave primária, sem carregar a entidade.
+     */
+    public Long getTicketVersion(Long id) {
+        return ticketRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Ticket not found with id: " + id));
+    }
+
+    // A geração cobre nomes de usuários e dados de referência embutidos, que não alteram a versão
+    public String getTicketETag(Long id, Long version) {
+        return ticketETag(id, version, ticketResponseCache.getGeneration());
+    }
+
+    /**
+     * Corpo JSON de GET /api/tickets/{id} para a versão já lida com {@link #getTicketVersion}, a
+     * mesma usada para responder If-None-Match. Se o cache tiver o JSON dessa versão, devolve os
+     * bytes sem carregar nem serializar o ticket. O ETag sai da versão e da geração de quem gerou
+     * o corpo, nunca de uma leitura anterior.
+     */
+    @Transactional(readOnly = true)
+    public TicketJson getTicketJson(Long id, Long version) {
+        TicketResponseCache.Entry entry = ticketResponseCache.get(id, version, generation -> {
+            Ticket ticket = ticketRepository.findWithDetailsById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Ticket not found with id: " + id));
+            return new TicketResponseCache.Entry(ticket.getVersion(), generation,
+                    jsonMapper.writeValueAsBytes(mapToResponse(ticket)));
+        });
+        return new TicketJson(ticketETag(id, entry.version(), entry.generation()), entry.json());
+    }
+
+    // "<id>-<version>-<geração>": o If-Match confere só id e versão, que são do banco e não do processo
+    private static String ticketETag(Long id, Long version, long generation) {
+        return "\"" + id + "-" + version + "-" + generation + "\"";
+    }
+
     @Transactional(readOnly = true)
     public TicketResponse getTicketById(Long id) {
-        Ticket ticket = ticketRepository.findById(id)
+        Ticket ticket = ticketRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Ticket not found with id: " + id));
         return mapToResponse(ticket);
     }
 
     @Transactional(readOnly = true)
-    public List<TicketResponse> getAllTickets() {
-        return ticketRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public CursorPageResponse<TicketSummaryResponse> getAllTickets(String after, int limit) {
+        int pageSize = resolvePageSize(limit);
+        PageCursor cursor = after != null ? PageCursor.decode(after) : null;
+        Pageable page = PageRequest.ofSize(pageSize + 1);
+
+        List<TicketSummaryView> tickets = cursor == null
+                ? ticketRepository.findSummaryPage(page)
+                : ticketRepository.findSummaryPageAfter(cursor.getTimestamp(), cursor.getId(), page);
+        return toCursorPage(tickets, pageSize);
     }
 
     @Transactional(readOnly = true)
-    public List<TicketResponse> getTicketsByUser(Long userId) {
-        return ticketRepository.findByUserId(userId).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public CursorPageResponse<TicketSummaryResponse> getTicketsByUser(Long userId, String after, int limit) {
+        int pageSize = resolvePageSize(limit);
+        PageCursor cursor = after != null ? PageCursor.decode(after) : null;
+        Pageable page = PageRequest.ofSize(pageSize + 1);
+
+        List<TicketSummaryView> tickets = cursor == null
+                ? ticketRepository.findSummaryPageByUserId(userId, page)
+                : ticketRepository.findSummaryPageByUserIdAfter(userId, cursor.getTimestamp(), cursor.getId(), page);
+        return toCursorPage(tickets, pageSize);
     }
 
     @Transactional(readOnly = true)
-    public List<TicketResponse> getTicketsByAssignedUser(Long assignedToId) {
-        return ticketRepository.findByAssignedToId(assignedToId).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public CursorPageResponse<TicketSummaryResponse> getTicketsByAssignedUser(Long assignedToId, String after, int limit) {
+        int pageSize = resolvePageSize(limit);
+        PageCursor cursor = after != null ? PageCursor.decode(after) : null;
+        Pageable page = PageRequest.ofSize(pageSize + 1);
+
+        List<TicketSummaryView> tickets = cursor == null
+                ? ticketRepository.findSummaryPageByAssignedToId(assignedToId, page)
+                : ticketRepository.findSummaryPageByAssignedToIdAfter(assignedToId, cursor.getTimestamp(), cursor.getId(), page);
+        return toCursorPage(tickets, pageSize);
     }
 
     @Transactional(readOnly = true)
-    public List<TicketResponse> getTicketsByStatus(Long statusId) {
-        return ticketRepository.findByStatusId(statusId).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public CursorPageResponse<TicketSummaryResponse> getTicketsByStatus(Long statusId, String after, int limit) {
+        int pageSize = resolvePageSize(limit);
+        PageCursor cursor = after != null ? PageCursor.decode(after) : null;
+        Pageable page = PageRequest.ofSize(pageSize + 1);
+
+        List<TicketSummaryView> tickets = cursor == null
+                ? ticketRepository.findSummaryPageByStatusId(statusId, page)
+                : ticketRepository.findSummaryPageByStatusIdAfter(statusId, cursor.getTimestamp(), cursor.getId(), page);
+        return toCursorPage(tickets, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<TicketSummaryResponse> searchTickets(TicketSearchRequest request) {
+        if (!SEARCH_SORT_FIELDS.contains(request.getSort())) {
+            throw new BadRequestException("Invalid sort field: " + request.getSort()
+                    + ". Allowed: " + String.join(", ", SEARCH_SORT_FIELDS));
+        }
+        if (!"asc".equalsIgnoreCase(request.getDirection()) && !"desc".equalsIgnoreCase(request.getDirection())) {
+            throw new BadRequestException("Invalid sort direction: " + request.getDirection());
+        }
+        if (request.getPage() < 0) {
+            throw new BadRequestException("Page must not be negative");
+        }
+        int pageSize = resolvePageSize(request.getSize());
+        int firstResult;
+        try {
+            firstResult = Math.multiplyExact(request.getPage(), pageSize);
+        } catch (ArithmeticException e) {
+            throw new BadRequestException("Page is too large; use the cursor endpoints for deep pagination");
+        }
+
+        // Busca pageSize + 1 linhas para saber se há próxima página sem um SELECT COUNT adicional
+        List<TicketSummaryView> rows = ticketRepository.search(request, firstResult, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+
+        return PageResponse.<TicketSummaryResponse>builder()
+                .items((hasNext ? rows.subList(0, pageSize) : rows).stream()
+                        .map(this::mapSummaryToResponse)
+                        .collect(Collectors.toList()))
+                .page(request.getPage())
+                .size(pageSize)
+                .hasNext(hasNext)
+                .build();
     }
 
+    /**
+     * Com If-Match, só aplica se o chamado ainda estiver na versão do ETag informado (412 caso contrário).
+     * Uma escrita concorrente entre a leitura e o UPDATE é detectada pelo @Version (409).
+     */
     @Transactional
-    public TicketResponse updateTicket(Long id, TicketRequest request) {
-        Ticket ticket = ticketRepository.findById(id)
+    public TicketResponse updateTicket(Long id, TicketRequest request, String ifMatch) {
+        Ticket ticket = ticketRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Ticket not found with id: " + id));
+        checkIfMatch(id, ticket.getVersion(), ifMatch);
 
-        Category category = categoryRepository.findById(request.getCategoryId())
+        Category category = referenceDataCache.findCategory(request.getCategoryId())
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + request.getCategoryId()));
 
-        Priority priority = priorityRepository.findById(request.getPriorityId())
+        Priority priority = referenceDataCache.findPriority(request.getPriorityId())
                 .orElseThrow(() -> new ResourceNotFoundException("Priority not found with id: " + request.getPriorityId()));
 
         User assignedTo = null;
@@ -126,84 +334,415 @@ public class TicketService {
                     .orElseThrow(() -> new ResourceNotFoundException("Assigned user not found with id: " + request.getAssignedToId()));
         }
 
+        TicketSnapshot previous = TicketSnapshot.of(ticket);
         ticket.setTitle(request.getTitle());
         ticket.setDescription(request.getDescription());
         ticket.setCategory(category);
         ticket.setPriority(priority);
         ticket.setAssignedTo(assignedTo);
 
-        Ticket updatedTicket = ticketRepository.save(ticket);
+        // Flush imediato para devolver a nova versão e o updatedAt já gravados
+        Ticket updatedTicket = ticketRepository.saveAndFlush(ticket);
+        publishEvent(TicketEvent.Type.UPDATED, updatedTicket, previous);
         return mapToResponse(updatedTicket);
     }
 
     /**
-     * Obtém o usuário autenticado do SecurityContext
+     * Obtém o usuário autenticado do SecurityContext. O id vem do principal, então a
+     * referência é criada sem consulta; os dados só são carregados se forem lidos.
      */
     private User getCurrentAuthenticatedUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new ResourceNotFoundException("User not authenticated");
-        }
-        
-        Object principal = authentication.getPrincipal();
-        
-        if (!(principal instanceof UserDetails)) {
-            throw new ResourceNotFoundException("Invalid authentication principal");
-        }
-        
-        String email = ((UserDetails) principal).getUsername();
-        
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("Authenticated user not found with email: " + email));
+        return userRepository.getReferenceById(currentUserProvider.getId());
     }
 
+    /**
+     * Transição de status sem lock de linha: lê o chamado e aplica um único UPDATE condicionado
+     * ao status e à versão lidos, de modo que o oldStatus do histórico é sempre o status substituído.
+     * Com If-Match, uma versão diferente da do ETag resulta em 412; sem ele, a transição é
+     * repetida sobre o estado novo algumas vezes antes de responder 409.
+     */
     @Transactional
-    public TicketResponse updateTicketStatus(StatusUpdateRequest request) {
-        Ticket ticket = ticketRepository.findById(request.getTicketId())
-                .orElseThrow(() -> new ResourceNotFoundException("Ticket not found with id: " + request.getTicketId()));
-
-        Status newStatus = statusRepository.findById(request.getNewStatusId())
+    public TicketResponse updateTicketStatus(StatusUpdateRequest request, String ifMatch) {
+        Long ticketId = request.getTicketId();
+        Status newStatus = referenceDataCache.findStatus(request.getNewStatusId())
                 .orElseThrow(() -> new ResourceNotFoundException("Status not found with id: " + request.getNewStatusId()));
+        User changedBy = findChangedBy(request.getChangedByUserId());
+
+        Ticket ticket = null;
+        TicketSnapshot previous = null;
+        boolean changed = false;
+        LocalDateTime now = null;
+        for (int attempt = 0; attempt < STATUS_CAS_ATTEMPTS && !changed; attempt++) {
+            // O compare-and-set limpa o contexto: cada tentativa lê o estado já confirmado
+            ticket = ticketRepository.findWithDetailsById(ticketId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Ticket not found with id: " + ticketId));
+            checkIfMatch(ticketId, ticket.getVersion(), ifMatch);
+            previous = TicketSnapshot.of(ticket);
+            now = LocalDateTime.now();
+            changed = ticketRepository.compareAndSetStatus(ticketId, previous.getStatusId(), ticket.getVersion(),
+                    newStatus, now) == 1;
+        }
+        if (!changed) {
+            throw new ConflictException("Ticket " + ticketId + " is being modified concurrently; retry");
+        }
 
-        User changedBy = userRepository.findById(request.getChangedByUserId())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + request.getChangedByUserId()));
-
+        // A entidade ficou desanexada: reflete nela o que o UPDATE gravou, sem nova leitura
         Status oldStatus = ticket.getStatus();
-
-        // Update ticket status
         ticket.setStatus(newStatus);
-        Ticket updatedTicket = ticketRepository.save(ticket);
+        ticket.setVersion(ticket.getVersion() + 1);
+        ticket.setUpdatedAt(now);
 
-        // Create status history entry
-        StatusHistory statusHistory = StatusHistory.builder()
+        statusHistoryRepository.save(StatusHistory.builder()
                 .ticket(ticket)
                 .oldStatus(oldStatus)
                 .newStatus(newStatus)
                 .changedBy(changedBy)
-                .build();
-        statusHistoryRepository.save(statusHistory);
+                .build());
 
-        return mapToResponse(updatedTicket);
+        publishEvent(TicketEvent.Type.STATUS_CHANGED, ticket, previous);
+        return mapToResponse(ticket);
+    }
+
+    /**
+     * O usuário autenticado existe, então basta uma referência sem consulta; outro usuário
+     * informado na requisição é procurado para responder 404 se não existir.
+     */
+    private User findChangedBy(Long userId) {
+        if (userId.equals(currentUserProvider.getId())) {
+            return userRepository.getReferenceById(userId);
+        }
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+    }
+
+    /**
+     * A geração do ETag muda com renomeações de usuários e dados de referência e a cada reinício,
+     * sem que o chamado tenha mudado; por isso a pré-condição compara só id e versão.
+     */
+    private void checkIfMatch(Long id, Long version, String ifMatch) {
+        if (ifMatch != null && !ETags.matchesPrefix(ifMatch, "\"" + id + "-" + version + "-")) {
+            throw new PreconditionFailedException("Ticket " + id + " was modified; reload it and retry");
+        }
     }
 
     @Transactional
     public void deleteTicket(Long id) {
-        if (!ticketRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Ticket not found with id: " + id);
+        Ticket ticket = ticketRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Ticket not found with id: " + id));
+        TicketSnapshot previous = TicketSnapshot.of(ticket);
+        // Anexos saem em cascata; os arquivos só são apagados depois do commit
+        ticket.getAttachments().stream()
+                .map(Attachment::getStorageKey)
+                .filter(Objects::nonNull)
+                .forEach(attachmentContentStore::deleteAfterCommit);
+        ticketRepository.delete(ticket);
+        ticketTombstoneRepository.save(TicketTombstone.builder()
+                .ticketId(id)
+                .deletedAt(LocalDateTime.now())
+                .build());
+        eventPublisher.publishEvent(TicketEvent.builder()
+                .type(TicketEvent.Type.DELETED)
+                .ticketId(id)
+                .previous(previous)
+                .build());
+    }
+
+    /**
+     * Sincronização incremental: chamados criados ou alterados e IDs removidos desde a marca.
+     * Sem marca (ou com uma marca anterior à retenção das remoções) devolve todos os chamados
+     * a partir do início. Cada lado traz no máximo {@code limit} itens; com {@code hasMore}
+     * o cliente repete a chamada com a nova marca.
+     */
+    @Transactional(readOnly = true)
+    public TicketChangesResponse getChanges(String since, int limit) {
+        if (limit < 1) {
+            throw new BadRequestException("Limit must be greater than zero");
+        }
+        int pageSize = Math.min(limit, MAX_CHANGES_PAGE_SIZE);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime upTo = now.minus(syncSafetyLag);
+
+        ChangeWatermark watermark = since != null ? ChangeWatermark.decode(since) : ChangeWatermark.BEGINNING;
+        boolean resetRequired = since != null && watermark.getDeletedAt().isBefore(now.minus(tombstoneRetention));
+        if (resetRequired) {
+            watermark = ChangeWatermark.BEGINNING;
+        }
+
+        List<TicketSummaryView> changed = ticketRepository.findChangedAfter(
+                watermark.getUpdatedAt(), watermark.getTicketId(), upTo, PageRequest.ofSize(pageSize + 1));
+        // Partindo do início não há cópia local a limpar: as remoções anteriores são dispensáveis
+        List<TicketTombstone> deleted = since == null || resetRequired
+                ? List.of()
+                : ticketTombstoneRepository.findPageAfter(
+                        watermark.getDeletedAt(), watermark.getDeletedTicketId(), upTo, PageRequest.ofSize(pageSize + 1));
+
+        boolean moreChanged = changed.size() > pageSize;
+        boolean moreDeleted = deleted.size() > pageSize;
+        List<TicketSummaryView> pageChanged = moreChanged ? changed.subList(0, pageSize) : changed;
+        List<TicketTombstone> pageDeleted = moreDeleted ? deleted.subList(0, pageSize) : deleted;
+
+        // Lado esgotado avança até upTo; caso contrário, até o último item entregue
+        TicketSummaryView lastChanged = moreChanged ? pageChanged.get(pageChanged.size() - 1) : null;
+        TicketTombstone lastDeleted = moreDeleted ? pageDeleted.get(pageDeleted.size() - 1) : null;
+        ChangeWatermark next = new ChangeWatermark(
+                lastChanged != null ? lastChanged.getUpdatedAt() : upTo,
+                lastChanged != null ? lastChanged.getId() : Long.MAX_VALUE,
+                lastDeleted != null ? lastDeleted.getDeletedAt() : upTo,
+                lastDeleted != null ? lastDeleted.getTicketId() : Long.MAX_VALUE);
+
+        return TicketChangesResponse.builder()
+                .resetRequired(resetRequired)
+                .changed(pageChanged.stream()
+                        .map(this::mapSummaryToResponse)
+                        .collect(Collectors.toList()))
+                .deleted(pageDeleted.stream()
+                        .map(TicketTombstone::getTicketId)
+                        .collect(Collectors.toList()))
+                .watermark(next.encode())
+                .hasMore(moreChanged || moreDeleted)
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.sync.tombstone-prune-interval:3600000}")
+    @Transactional
+    public void purgeExpiredTombstones() {
+        ticketTombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+    }
+
+    @Transactional
+    public BulkStatusUpdateResponse updateTicketStatusBulk(BulkStatusUpdateRequest request) {
+        Status newStatus = referenceDataCache.findStatus(request.getNewStatusId())
+                .orElseThrow(() -> new ResourceNotFoundException("Status not found with id: " + request.getNewStatusId()));
+        User changedBy = getCurrentAuthenticatedUser();
+
+        List<TicketStatusView> tickets = findBulkStatusTargets(request);
+        List<Long> notFound = new ArrayList<>();
+        if (request.getTicketIds() != null && !request.getTicketIds().isEmpty()) {
+            Set<Long> found = tickets.stream().map(TicketStatusView::getId).collect(Collectors.toSet());
+            request.getTicketIds().stream()
+                    .filter(id -> !found.contains(id))
+                    .sorted()
+                    .forEach(notFound::add);
         }
-        ticketRepository.deleteById(id);
+
+        List<TicketStatusView> toChange = new ArrayList<>();
+        List<Long> alreadyInStatus = new ArrayList<>();
+        for (TicketStatusView ticket : tickets) {
+            if (newStatus.getId().equals(ticket.getStatusId())) {
+                alreadyInStatus.add(ticket.getId());
+            } else {
+                toChange.add(ticket);
+            }
+        }
+
+        // Compare-and-set por chamado sobre o status e a versão lidos, um batch JDBC por bloco: quem
+        // mudou no meio do caminho fica em conflicted, e histórico e eventos só saem para o que foi alterado
+        LocalDateTime now = LocalDateTime.now();
+        List<TicketStatusView> changedTickets = new ArrayList<>(toChange.size());
+        List<Long> conflicted = new ArrayList<>();
+        for (int from = 0; from < toChange.size(); from += BULK_CHUNK_SIZE) {
+            List<TicketStatusView> chunk = toChange.subList(from, Math.min(from + BULK_CHUNK_SIZE, toChange.size()));
+            boolean[] updated = ticketRepository.compareAndSetStatuses(chunk, newStatus.getId(), now);
+            for (int i = 0; i < chunk.size(); i++) {
+                if (updated[i]) {
+                    changedTickets.add(chunk.get(i));
+                } else {
+                    conflicted.add(chunk.get(i).getId());
+                }
+            }
+        }
+
+        // Históricos gravados em lote (batch JDBC) no flush
+        List<StatusHistory> histories = new ArrayList<>(changedTickets.size());
+        for (TicketStatusView ticket : changedTickets) {
+            histories.add(StatusHistory.builder()
+                    .ticket(ticketRepository.getReferenceById(ticket.getId()))
+                    .oldStatus(referenceDataCache.findStatus(ticket.getStatusId()).orElse(null))
+                    .newStatus(newStatus)
+                    .changedBy(changedBy)
+                    .build());
+        }
+        statusHistoryRepository.saveAll(histories);
+
+        for (TicketStatusView ticket : changedTickets) {
+            TicketSnapshot previous = TicketSnapshot.builder()
+                    .statusId(ticket.getStatusId())
+                    .priorityId(ticket.getPriorityId())
+                    .categoryId(ticket.getCategoryId())
+                    .assignedToId(ticket.getAssignedToId())
+                    .build();
+            eventPublisher.publishEvent(TicketEvent.builder()
+                    .type(TicketEvent.Type.STATUS_CHANGED)
+                    .ticketId(ticket.getId())
+                    .previous(previous)
+                    .current(previous.toBuilder().statusId(newStatus.getId()).build())
+                    .build());
+        }
+
+        List<Long> changed = changedTickets.stream().map(TicketStatusView::getId).toList();
+
+        return BulkStatusUpdateResponse.builder()
+                .statusId(newStatus.getId())
+                .changed(changed)
+                .alreadyInStatus(alreadyInStatus)
+                .conflicted(conflicted)
+                .notFound(notFound)
+                .build();
     }
 
     @Transactional(readOnly = true)
-    public List<StatusHistoryResponse> getTicketHistory(Long ticketId) {
-        if (!ticketRepository.existsById(ticketId)) {
+    public CursorPageResponse<StatusHistoryResponse> getTicketHistory(Long ticketId, String after, int limit) {
+        int pageSize = resolvePageSize(limit);
+        PageCursor cursor = after != null ? PageCursor.decode(after) : null;
+        Pageable page = PageRequest.ofSize(pageSize + 1);
+
+        List<StatusHistory> histories = cursor == null
+                ? statusHistoryRepository.findPageByTicketId(ticketId, page)
+                : statusHistoryRepository.findPageByTicketIdAfter(ticketId, cursor.getTimestamp(), cursor.getId(), page);
+
+        // Todo chamado tem ao menos o registro inicial; página vazia sem cursor indica chamado inexistente
+        if (histories.isEmpty() && cursor == null && !ticketRepository.existsById(ticketId)) {
             throw new ResourceNotFoundException("Ticket not found with id: " + ticketId);
         }
 
-        return statusHistoryRepository.findByTicketIdOrderByChangedAtDesc(ticketId).stream()
-                .map(this::mapHistoryToResponse)
-                .collect(Collectors.toList());
+        boolean hasNext = histories.size() > pageSize;
+        List<StatusHistory> pageHistories = hasNext ? histories.subList(0, pageSize) : histories;
+
+        String next = null;
+        if (hasNext) {
+            StatusHistory last = pageHistories.get(pageHistories.size() - 1);
+            next = new PageCursor(last.getChangedAt(), last.getId()).encode();
+        }
+
+        return CursorPageResponse.<StatusHistoryResponse>builder()
+                .items(pageHistories.stream()
+                        .map(this::mapHistoryToResponse)
+                        .collect(Collectors.toList()))
+                .limit(pageSize)
+                .next(next)
+                .build();
+    }
+
+    private void publishEvent(TicketEvent.Type type, Ticket ticket) {
+        publishEvent(type, ticket, null);
+    }
+
+    private void publishEvent(TicketEvent.Type type, Ticket ticket, TicketSnapshot previous) {
+        eventPublisher.publishEvent(TicketEvent.builder()
+                .type(type)
+                .ticketId(ticket.getId())
+                .title(ticket.getTitle())
+                .description(ticket.getDescription())
+                .previous(previous)
+                .current(TicketSnapshot.of(ticket))
+                .build());
+    }
+
+    private List<TicketStatusView> findBulkStatusTargets(BulkStatusUpdateRequest request) {
+        Set<Long> ticketIds = request.getTicketIds();
+        if (ticketIds != null && !ticketIds.isEmpty()) {
+            List<Long> ids = new ArrayList<>(ticketIds);
+            List<TicketStatusView> tickets = new ArrayList<>(ids.size());
+            for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+                tickets.addAll(ticketRepository.findStatusByIdIn(ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size()))));
+            }
+            return tickets;
+        }
+
+        if (request.getStatusId() == null && request.getPriorityId() == null
+                && request.getCategoryId() == null && request.getAssignedToId() == null) {
+            throw new BadRequestException("Provide ticketIds or at least one filter (statusId, priorityId, categoryId, assignedToId)");
+        }
+        List<TicketStatusView> tickets = ticketRepository.findStatusByFilter(request.getStatusId(), request.getPriorityId(),
+                request.getCategoryId(), request.getAssignedToId(), PageRequest.ofSize(MAX_BULK_STATUS_TICKETS + 1));
+        if (tickets.size() > MAX_BULK_STATUS_TICKETS) {
+            throw new BadRequestException("Filter matches more than " + MAX_BULK_STATUS_TICKETS + " tickets");
+        }
+        return tickets;
+    }
+
+    private List<String> validateBulkItem(TicketRequest item, Set<Long> existingAssigneeIds) {
+        List<String> errors = new ArrayList<>();
+        if (item == null) {
+            errors.add("Ticket is required");
+            return errors;
+        }
+        for (ConstraintViolation<TicketRequest> violation : validator.validate(item)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        if (item.getCategoryId() != null && referenceDataCache.findCategory(item.getCategoryId()).isEmpty()) {
+            errors.add("Category not found with id: " + item.getCategoryId());
+        }
+        if (item.getPriorityId() != null && referenceDataCache.findPriority(item.getPriorityId()).isEmpty()) {
+            errors.add("Priority not found with id: " + item.getPriorityId());
+        }
+        if (item.getAssignedToId() != null && !existingAssigneeIds.contains(item.getAssignedToId())) {
+            errors.add("Assigned user not found with id: " + item.getAssignedToId());
+        }
+        return errors;
+    }
+
+    private int resolvePageSize(int limit) {
+        if (limit < 1) {
+            throw new BadRequestException("Limit must be greater than zero");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Recebe até pageSize + 1 linhas: a linha extra só indica que existe próxima página.
+     */
+    private CursorPageResponse<TicketSummaryResponse> toCursorPage(List<TicketSummaryView> tickets, int pageSize) {
+        boolean hasNext = tickets.size() > pageSize;
+        List<TicketSummaryView> pageTickets = hasNext ? tickets.subList(0, pageSize) : tickets;
+
+        String next = null;
+        if (hasNext) {
+            TicketSummaryView last = pageTickets.get(pageTickets.size() - 1);
+            next = new PageCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPageResponse.<TicketSummaryResponse>builder()
+                .items(pageTickets.stream()
+                        .map(this::mapSummaryToResponse)
+                        .collect(Collectors.toList()))
+                .limit(pageSize)
+                .next(next)
+                .build();
+    }
+
+    private TicketSummaryResponse mapSummaryToResponse(TicketSummaryView view) {
+        return TicketSummaryResponse.builder()
+                .id(view.getId())
+                .title(view.getTitle())
+                .createdAt(view.getCreatedAt())
+                .updatedAt(view.getUpdatedAt())
+                .user(UserResponse.builder()
+                        .id(view.getUserId())
+                        .name(view.getUserName())
+                        .email(view.getUserEmail())
+                        .role(view.getUserRole())
+                        .build())
+                .assignedTo(view.getAssignedToId() != null ? UserResponse.builder()
+                        .id(view.getAssignedToId())
+                        .name(view.getAssignedToName())
+                        .email(view.getAssignedToEmail())
+                        .role(view.getAssignedToRole())
+                        .build() : null)
+                .category(CategoryResponse.builder()
+                        .id(view.getCategoryId())
+                        .name(view.getCategoryName())
+                        .build())
+                .priority(PriorityResponse.builder()
+                        .id(view.getPriorityId())
+                        .name(view.getPriorityName())
+                        .level(view.getPriorityLevel())
+                        .build())
+                .status(StatusResponse.builder()
+                        .id(view.getStatusId())
+                        .name(view.getStatusName())
+                        .build())
+                .build();
     }
 
     private TicketResponse mapToResponse(Ticket ticket) {
@@ -213,6 +752,7 @@ public class TicketService {
                 .description(ticket.getDescription())
                 .createdAt(ticket.getCreatedAt())
                 .updatedAt(ticket.getUpdatedAt())
+                .version(ticket.getVersion())
                 .user(mapUserToResponse(ticket.getUser()))
                 .assignedTo(ticket.getAssignedTo() != null ? mapUserToResponse(ticket.getAssignedTo()) : null)
                 .category(mapCategoryToResponse(ticket.getCategory()))
@@ -261,7 +801,7 @@ public class TicketService {
                 .ticketId(history.getTicket().getId())
                 .oldStatus(history.getOldStatus() != null ? mapStatusToResponse(history.getOldStatus()) : null)
                 .newStatus(mapStatusToResponse(history.getNewStatus()))
-                .changedBy(mapUserToResponse(history.getChangedBy()))
+                .changedBy(history.getChangedBy() != null ? mapUserToResponse(history.getChangedBy()) : null)
                 .build();
     }
 }
@@ -0,0 +1,65 @@
+package io.github.angelo.TicketingSystem.service;
+
+import io.github.angelo.TicketingSystem.cache.ReferenceDataCache;
+import io.github.angelo.TicketingSystem.dto.response.StatCountResponse;
+import io.github.angelo.TicketingSystem.dto.response.TicketStatsResponse;
+import io.github.angelo.TicketingSystem.model.Category;
+import io.github.angelo.TicketingSystem.model.Priority;
+import io.github.angelo.TicketingSystem.model.Status;
+import io.github.angelo.TicketingSystem.stats.TicketCounters;
+import io.github.angelo.TicketingSystem.stats.UserNameRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TicketStatsService {
+
+    private final TicketCounters ticketCounters;
+    private final ReferenceDataCache referenceDataCache;
+    private final UserNameRegistry userNameRegistry;
+
+    /**
+     * Respondido só com dados em memória: contadores, cache de referência e nomes de usuários.
+     */
+    public TicketStatsResponse getStats() {
+        Map<Long, Long> byStatus = ticketCounters.get(TicketCounters.Dimension.STATUS);
+        Map<Long, Long> byAssignee = ticketCounters.get(TicketCounters.Dimension.ASSIGNEE);
+
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        long open = byStatus.entrySet().stream()
+                .filter(entry -> ticketCounters.isOpen(entry.getKey()))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+
+        return TicketStatsResponse.builder()
+                .total(total)
+                .open(open)
+                .openUnassigned(ticketCounters.getUnassigned())
+                .byStatus(toCounts(byStatus, id -> referenceDataCache.findStatus(id).map(Status::getName).orElse(null)))
+                .openByPriority(toCounts(ticketCounters.get(TicketCounters.Dimension.PRIORITY),
+                        id -> referenceDataCache.findPriority(id).map(Priority::getName).orElse(null)))
+                .openByCategory(toCounts(ticketCounters.get(TicketCounters.Dimension.CATEGORY),
+                        id -> referenceDataCache.findCategory(id).map(Category::getName).orElse(null)))
+                .openByAssignee(toCounts(byAssignee, userNameRegistry::find))
+                .build();
+    }
+
+    private List<StatCountResponse> toCounts(Map<Long, Long> counts, Function<Long, String> names) {
+        return counts.entrySet().stream()
+                .map(entry -> StatCountResponse.builder()
+                        .id(entry.getKey())
+                        .name(names.apply(entry.getKey()))
+                        .count(entry.getValue())
+                        .build())
+                .sorted(Comparator.comparingLong(StatCountResponse::getCount).reversed()
+                        .thenComparing(StatCountResponse::getId))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,195 @@
+package io.github.angelo.TicketingSystem.service;
+
+import io.github.angelo.TicketingSystem.dto.response.*;
+import io.github.angelo.TicketingSystem.exception.BadRequestException;
+import io.github.angelo.TicketingSystem.exception.ResourceNotFoundException;
+import io.github.angelo.TicketingSystem.model.*;
+import io.github.angelo.TicketingSystem.model.enums.TimelineEntryType;
+import io.github.angelo.TicketingSystem.repository.AttachmentRepository;
+import io.github.angelo.TicketingSystem.repository.CommentRepository;
+import io.github.angelo.TicketingSystem.repository.StatusHistoryRepository;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import io.github.angelo.TicketingSystem.util.TimelineCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Timeline do chamado: histórico de status, comentários e anexos em um único feed,
+ * do mais recente para o mais antigo. Cada fonte devolve no máximo {@code limit + 1}
+ * linhas já ordenadas pelo índice (ticket_id, instante, id) e as três são intercaladas
+ * por um merge de k vias.
+ */
+@Service
+@RequiredArgsConstructor
+public class TicketTimelineService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // Ordem decrescente por (instante, tipo, id), a mesma codificada no cursor
+    private static final Comparator<TimelineEntryResponse> TIMELINE_ORDER = Comparator
+            .comparing(TimelineEntryResponse::getOccurredAt)
+            .thenComparing(TimelineEntryResponse::getType)
+            .thenComparing(TimelineEntryResponse::getId)
+            .reversed();
+
+    private final TicketRepository ticketRepository;
+    private final StatusHistoryRepository statusHistoryRepository;
+    private final CommentRepository commentRepository;
+    private final AttachmentRepository attachmentRepository;
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TimelineEntryResponse> getTimeline(Long ticketId, String after, int limit) {
+        if (limit < 1) {
+            throw new BadRequestException("Limit must be greater than zero");
+        }
+        int pageSize = Math.min(limit, MAX_PAGE_SIZE);
+        TimelineCursor cursor = after != null ? TimelineCursor.decode(after) : null;
+        Pageable page = PageRequest.ofSize(pageSize + 1);
+
+        List<Iterator<TimelineEntryResponse>> sources = List.of(
+                fetchStatusChanges(ticketId, cursor, page).iterator(),
+                fetchComments(ticketId, cursor, page).iterator(),
+                fetchAttachments(ticketId, cursor, page).iterator());
+
+        PriorityQueue<SourceHead> heads = new PriorityQueue<>(sources.size(),
+                Comparator.comparing(SourceHead::entry, TIMELINE_ORDER));
+        for (Iterator<TimelineEntryResponse> source : sources) {
+            if (source.hasNext()) {
+                heads.add(new SourceHead(source.next(), source));
+            }
+        }
+
+        List<TimelineEntryResponse> items = new ArrayList<>(pageSize);
+        while (items.size() < pageSize && !heads.isEmpty()) {
+            SourceHead head = heads.poll();
+            items.add(head.entry());
+            if (head.source().hasNext()) {
+                heads.add(new SourceHead(head.source().next(), head.source()));
+            }
+        }
+
+        // Todo chamado tem ao menos o registro inicial de status; timeline vazia indica chamado inexistente
+        if (items.isEmpty() && cursor == null && !ticketRepository.existsById(ticketId)) {
+            throw new ResourceNotFoundException("Ticket not found with id: " + ticketId);
+        }
+
+        String next = null;
+        if (!heads.isEmpty()) {
+            TimelineEntryResponse last = items.get(items.size() - 1);
+            next = new TimelineCursor(last.getOccurredAt(), last.getType(), last.getId()).encode();
+        }
+
+        return CursorPageResponse.<TimelineEntryResponse>builder()
+                .items(items)
+                .limit(pageSize)
+                .next(next)
+                .build();
+    }
+
+    private List<TimelineEntryResponse> fetchStatusChanges(Long ticketId, TimelineCursor cursor, Pageable page) {
+        List<StatusHistory> histories = cursor == null
+                ? statusHistoryRepository.findPageByTicketId(ticketId, page)
+                : statusHistoryRepository.findPageByTicketIdAfter(ticketId, cursor.getTimestamp(),
+                        cursor.idBoundFor(TimelineEntryType.STATUS_CHANGE), page);
+        return histories.stream()
+                .map(history -> TimelineEntryResponse.builder()
+                        .type(TimelineEntryType.STATUS_CHANGE)
+                        .id(history.getId())
+                        .occurredAt(history.getChangedAt())
+                        .statusChange(mapHistoryToResponse(history))
+                        .build())
+                .toList();
+    }
+
+    private List<TimelineEntryResponse> fetchComments(Long ticketId, TimelineCursor cursor, Pageable page) {
+        List<Comment> comments = cursor == null
+                ? commentRepository.findPageByTicketId(ticketId, page)
+                : commentRepository.findPageByTicketIdAfter(ticketId, cursor.getTimestamp(),
+                        cursor.idBoundFor(TimelineEntryType.COMMENT), page);
+        return comments.stream()
+                .map(comment -> TimelineEntryResponse.builder()
+                        .type(TimelineEntryType.COMMENT)
+                        .id(comment.getId())
+                        .occurredAt(comment.getCreatedAt())
+                        .comment(mapCommentToResponse(comment))
+                        .build())
+                .toList();
+    }
+
+    private List<TimelineEntryResponse> fetchAttachments(Long ticketId, TimelineCursor cursor, Pageable page) {
+        List<Attachment> attachments = cursor == null
+                ? attachmentRepository.findPageByTicketId(ticketId, page)
+                : attachmentRepository.findPageByTicketIdAfter(ticketId, cursor.getTimestamp(),
+                        cursor.idBoundFor(TimelineEntryType.ATTACHMENT), page);
+        return attachments.stream()
+                .map(attachment -> TimelineEntryResponse.builder()
+                        .type(TimelineEntryType.ATTACHMENT)
+                        .id(attachment.getId())
+                        .occurredAt(attachment.getUploadedAt())
+                        .attachment(mapAttachmentToResponse(attachment))
+                        .build())
+                .toList();
+    }
+
+    private record SourceHead(TimelineEntryResponse entry, Iterator<TimelineEntryResponse> source) {
+    }
+
+    private StatusHistoryResponse mapHistoryToResponse(StatusHistory history) {
+        return StatusHistoryResponse.builder()
+                .id(history.getId())
+                .changedAt(history.getChangedAt())
+                .ticketId(history.getTicket().getId())
+                .oldStatus(history.getOldStatus() != null ? mapStatusToResponse(history.getOldStatus()) : null)
+                .newStatus(mapStatusToResponse(history.getNewStatus()))
+                .changedBy(history.getChangedBy() != null ? mapUserToResponse(history.getChangedBy()) : null)
+                .build();
+    }
+
+    private CommentResponse mapCommentToResponse(Comment comment) {
+        return CommentResponse.builder()
+                .id(comment.getId())
+                .message(comment.getMessage())
+                .createdAt(comment.getCreatedAt())
+                .ticketId(comment.getTicket().getId())
+                .user(comment.getUser() != null ? mapUserToResponse(comment.getUser()) : null)
+                .build();
+    }
+
+    private AttachmentResponse mapAttachmentToResponse(Attachment attachment) {
+        return AttachmentResponse.builder()
+                .id(attachment.getId())
+                .fileName(attachment.getFileName())
+                .fileUrl(attachment.resolveUrl())
+                .contentType(attachment.getContentType())
+                .size(attachment.getSize())
+                .uploadedAt(attachment.getUploadedAt())
+                .ticketId(attachment.getTicket().getId())
+                .build();
+    }
+
+    private StatusResponse mapStatusToResponse(Status status) {
+        return StatusResponse.builder()
+                .id(status.getId())
+                .name(status.getName())
+                .build();
+    }
+
+    private UserResponse mapUserToResponse(User user) {
+        return UserResponse.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .role(user.getRole())
+                .createdAt(user.getCreatedAt())
+                .build();
+    }
+}
@@ -2,14 +2,22 @@ package io.github.angelo.TicketingSystem.service;
 
 import io.github.angelo.TicketingSystem.dto.request.UserRequest;
 import io.github.angelo.TicketingSystem.dto.response.UserResponse;
+import io.github.angelo.TicketingSystem.event.UserEvent;
+import io.github.angelo.TicketingSystem.exception.ConflictException;
 import io.github.angelo.TicketingSystem.exception.DuplicateResourceException;
 import io.github.angelo.TicketingSystem.exception.ResourceNotFoundException;
 import io.github.angelo.TicketingSystem.model.User;
+import io.github.angelo.TicketingSystem.repository.CommentRepository;
+import io.github.angelo.TicketingSystem.repository.RefreshTokenRepository;
+import io.github.angelo.TicketingSystem.repository.StatusHistoryRepository;
 import io.github.angelo.TicketingSystem.repository.UserRepository;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -19,23 +27,37 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final TicketRepository ticketRepository;
+    private final CommentRepository commentRepository;
+    private final StatusHistoryRepository statusHistoryRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * O hash é calculado antes da transação, para o BCrypt não esperar no pool de hash segurando
+     * uma conexão do banco; a verificação do email e a gravação ficam numa transação curta.
+     */
     public UserResponse createUser(UserRequest request) {
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new DuplicateResourceException("Email already exists: " + request.getEmail());
-        }
-
-        User user = User.builder()
-                .name(request.getName())
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .role(request.getRole())
-                .build();
-
-        User savedUser = userRepository.save(user);
-        return mapToResponse(savedUser);
+        String encodedPassword = passwordEncoder.encode(request.getPassword());
+
+        return transactionTemplate.execute(status -> {
+            if (userRepository.existsByEmail(request.getEmail())) {
+                throw new DuplicateResourceException("Email already exists: " + request.getEmail());
+            }
+
+            User user = User.builder()
+                    .name(request.getName())
+                    .email(request.getEmail())
+                    .password(encodedPassword)
+                    .role(request.getRole())
+                    .build();
+
+            User savedUser = userRepository.save(user);
+            publishEvent(UserEvent.Type.CREATED, savedUser);
+            return mapToResponse(savedUser);
+        });
     }
 
     @Transactional(readOnly = true)
@@ -59,24 +81,42 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional
+    /**
+     * Como em {@link #createUser}, a nova senha, se houver, é codificada antes da transação.
+     */
     public UserResponse updateUser(Long id, UserRequest request) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
-
-        if (!user.getEmail().equals(request.getEmail()) && userRepository.existsByEmail(request.getEmail())) {
-            throw new DuplicateResourceException("Email already exists: " + request.getEmail());
-        }
-
-        user.setName(request.getName());
-        user.setEmail(request.getEmail());
-        user.setRole(request.getRole());
-        if (request.getPassword() != null && !request.getPassword().isEmpty()) {
-            user.setPassword(passwordEncoder.encode(request.getPassword()));
-        }
-
-        User updatedUser = userRepository.save(user);
-        return mapToResponse(updatedUser);
+        String encodedPassword = request.getPassword() != null && !request.getPassword().isEmpty()
+                ? passwordEncoder.encode(request.getPassword())
+                : null;
+
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+
+            if (!user.getEmail().equals(request.getEmail()) && userRepository.existsByEmail(request.getEmail())) {
+                throw new DuplicateResourceException("Email already exists: " + request.getEmail());
+            }
+
+            boolean credentialsChanged = !user.getEmail().equals(request.getEmail())
+                    || user.getRole() != request.getRole();
+
+            user.setName(request.getName());
+            user.setEmail(request.getEmail());
+            user.setRole(request.getRole());
+            if (encodedPassword != null) {
+                user.setPassword(encodedPassword);
+                credentialsChanged = true;
+            }
+            if (credentialsChanged) {
+                // Tokens emitidos antes desta alteração deixam de ser aceitos, inclusive os refresh tokens
+                user.setTokenVersion(user.getTokenVersion() + 1);
+                refreshTokenRepository.revokeAllByUserId(user.getId());
+            }
+
+            User updatedUser = userRepository.save(user);
+            publishEvent(UserEvent.Type.UPDATED, updatedUser);
+            return mapToResponse(updatedUser);
+        });
     }
 
     @Transactional
@@ -84,7 +124,26 @@ public class UserService {
         if (!userRepository.existsById(id)) {
             throw new ResourceNotFoundException("User not found with id: " + id);
         }
+        if (ticketRepository.existsByUserIdOrAssignedToId(id, id)) {
+            throw new ConflictException("User " + id + " has created or is assigned to tickets; delete or reassign them first");
+        }
+        // Comentários e histórico ficam, sem autor; o evento DELETED invalida as respostas em cache que o embutiam
+        commentRepository.clearAuthor(id);
+        statusHistoryRepository.clearChangedBy(id);
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(UserEvent.builder()
+                .type(UserEvent.Type.DELETED)
+                .userId(id)
+                .build());
+    }
+
+    private void publishEvent(UserEvent.Type type, User user) {
+        eventPublisher.publishEvent(UserEvent.builder()
+                .type(type)
+                .userId(user.getId())
+                .tokenVersion(user.getTokenVersion())
+                .name(user.getName())
+                .build());
     }
 
     private UserResponse mapToResponse(User user) {
@@ -0,0 +1,154 @@
+package io.github.angelo.TicketingSystem.stats;
+
+import io.github.angelo.TicketingSystem.cache.ReferenceDataCache;
+import io.github.angelo.TicketingSystem.event.TicketEvent;
+import io.github.angelo.TicketingSystem.event.TicketSnapshot;
+import io.github.angelo.TicketingSystem.model.Status;
+import io.github.angelo.TicketingSystem.repository.StatusRepository;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import io.github.angelo.TicketingSystem.repository.projection.DimensionCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Contadores em memória de tickets por status e, entre os tickets em aberto, por prioridade,
+ * categoria e responsável. São ajustados após o commit de cada escrita a partir dos snapshots
+ * levados no TicketEvent, semeados por GROUP BY na inicialização e reconciliados periodicamente
+ * para corrigir eventuais desvios (por exemplo, escritas concorrentes a uma reconciliação).
+ */
+@Slf4j
+@Component
+public class TicketCounters {
+
+    public enum Dimension {
+        STATUS, PRIORITY, CATEGORY, ASSIGNEE
+    }
+
+    private final TicketRepository ticketRepository;
+    private final StatusRepository statusRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final Set<String> closedStatuses;
+
+    private final AtomicReference<Counters> counters = new AtomicReference<>(new Counters());
+
+    public TicketCounters(TicketRepository ticketRepository,
+                          StatusRepository statusRepository,
+                          ReferenceDataCache referenceDataCache,
+                          @Value("${tickets.stats.closed-statuses:Resolved,Closed}") List<String> closedStatuses) {
+        this.ticketRepository = ticketRepository;
+        this.statusRepository = statusRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.closedStatuses = Set.copyOf(closedStatuses);
+    }
+
+    private static class Counters {
+        // Chave nula não é aceita pelo ConcurrentHashMap; tickets sem responsável ficam em "unassigned"
+        private final Map<Dimension, ConcurrentMap<Long, LongAdder>> byDimension = new EnumMap<>(Dimension.class);
+        private final LongAdder unassigned = new LongAdder();
+
+        private Counters() {
+            for (Dimension dimension : Dimension.values()) {
+                byDimension.put(dimension, new ConcurrentHashMap<>());
+            }
+        }
+
+        private void add(Dimension dimension, Long key, long delta) {
+            byDimension.get(dimension).computeIfAbsent(key, k -> new LongAdder()).add(delta);
+        }
+
+        private Map<Long, Long> snapshot(Dimension dimension) {
+            return byDimension.get(dimension).entrySet().stream()
+                    .filter(entry -> entry.getValue().sum() != 0)
+                    .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${tickets.stats.reconcile-interval:300000}",
+            fixedDelayString = "${tickets.stats.reconcile-interval:300000}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        List<Long> openStatusIds = statusRepository.findAll().stream()
+                .filter(status -> !closedStatuses.contains(status.getName()))
+                .map(Status::getId)
+                .toList();
+
+        Counters fresh = new Counters();
+        load(fresh, Dimension.STATUS, ticketRepository.countByStatus());
+        if (!openStatusIds.isEmpty()) {
+            load(fresh, Dimension.PRIORITY, ticketRepository.countByPriorityInStatuses(openStatusIds));
+            load(fresh, Dimension.CATEGORY, ticketRepository.countByCategoryInStatuses(openStatusIds));
+            load(fresh, Dimension.ASSIGNEE, ticketRepository.countByAssigneeInStatuses(openStatusIds));
+        }
+
+        Counters previous = counters.getAndSet(fresh);
+        boolean drifted = previous.unassigned.sum() != fresh.unassigned.sum()
+                || Arrays.stream(Dimension.values())
+                        .anyMatch(dimension -> !previous.snapshot(dimension).equals(fresh.snapshot(dimension)));
+        if (drifted) {
+            log.info("Ticket counters reconciled with the database");
+        }
+    }
+
+    private void load(Counters target, Dimension dimension, List<DimensionCount> counts) {
+        for (DimensionCount count : counts) {
+            if (dimension == Dimension.ASSIGNEE && count.getKey() == null) {
+                target.unassigned.add(count.getCount());
+            } else {
+                target.add(dimension, count.getKey(), count.getCount());
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTicketEvent(TicketEvent event) {
+        Counters current = counters.get();
+        if (event.getPrevious() != null) {
+            apply(current, event.getPrevious(), -1);
+        }
+        if (event.getCurrent() != null) {
+            apply(current, event.getCurrent(), 1);
+        }
+    }
+
+    private void apply(Counters target, TicketSnapshot ticket, long delta) {
+        target.add(Dimension.STATUS, ticket.getStatusId(), delta);
+        if (!isOpen(ticket.getStatusId())) {
+            return;
+        }
+        target.add(Dimension.PRIORITY, ticket.getPriorityId(), delta);
+        target.add(Dimension.CATEGORY, ticket.getCategoryId(), delta);
+        if (ticket.getAssignedToId() != null) {
+            target.add(Dimension.ASSIGNEE, ticket.getAssignedToId(), delta);
+        } else {
+            target.unassigned.add(delta);
+        }
+    }
+
+    public boolean isOpen(Long statusId) {
+        return referenceDataCache.findStatus(statusId)
+                .map(status -> !closedStatuses.contains(status.getName()))
+                .orElse(false);
+    }
+
+    public Map<Long, Long> get(Dimension dimension) {
+        return counters.get().snapshot(dimension);
+    }
+
+    public long getUnassigned() {
+        return counters.get().unassigned.sum();
+    }
+}
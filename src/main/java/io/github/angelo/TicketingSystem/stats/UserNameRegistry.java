@@ -0,0 +1,47 @@
+package io.github.angelo.TicketingSystem.stats;
+
+import io.github.angelo.TicketingSystem.event.UserEvent;
+import io.github.angelo.TicketingSystem.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Nome de cada usuário, mantido em memória para rotular os responsáveis nas estatísticas
+ * sem consultar a tabela de usuários a cada requisição. Carregado na inicialização e
+ * atualizado após o commit pelos UserEvents.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserNameRegistry {
+
+    private final UserRepository userRepository;
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        userRepository.findAllNames().forEach(user -> names.put(user.getId(), user.getName()));
+        log.info("User names loaded for {} users", names.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserEvent(UserEvent event) {
+        if (event.getType() == UserEvent.Type.DELETED) {
+            names.remove(event.getUserId());
+        } else {
+            names.put(event.getUserId(), event.getName());
+        }
+    }
+
+    // Nulo para usuários desconhecidos, como no rótulo das demais dimensões
+    public String find(Long userId) {
+        return names.get(userId);
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.angelo.TicketingSystem.storage;
+
+import java.nio.file.Path;
+
+/**
+ * Metadados necessários para servir o conteúdo de um anexo, lidos antes de abrir o arquivo.
+ */
+public record AttachmentContent(Path path, String fileName, String contentType, long size,
+                                String etag, long lastModified) {
+}
@@ -0,0 +1,134 @@
+package io.github.angelo.TicketingSystem.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Envia o conteúdo de um anexo tratando requisições condicionais (If-None-Match, If-Modified-Since,
+ * If-Match, If-Unmodified-Since) e Range de um único intervalo, com If-Range.
+ * Só o sendfile do Tomcat evita copiar o corpo para a memória da aplicação, e só quando o conector
+ * o oferece (NIO/NIO2, com o anexo acima de sendfileSize). No fallback, transferTo para o canal
+ * do OutputStream do servlet não é zero-copy: os bytes passam por um buffer no heap.
+ */
+@Component
+public class AttachmentContentSender {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    public void send(AttachmentContent content, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        // Responde 304/412 e já grava ETag e Last-Modified na resposta
+        if (new ServletWebRequest(request, response).checkNotModified(content.etag(), content.lastModified())) {
+            return;
+        }
+
+        long size = content.size();
+        long start = 0;
+        long end = size - 1;
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(content.fileName(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+        response.setContentType(content.contentType());
+
+        HttpRange range = requestedRange(request, content);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(size);
+                end = range.getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                start = size;
+            }
+            // HttpRange não confere o início contra o tamanho: "bytes=<size>-" também é insatisfazível
+            if (start >= size || start > end) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+
+        long length = end - start + 1;
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+        transfer(content, start, length, request, response);
+    }
+
+    /**
+     * Só um intervalo é atendido; vários intervalos, cabeçalho inválido ou If-Range desatualizado
+     * resultam no arquivo inteiro, como permite a RFC 9110.
+     */
+    private HttpRange requestedRange(HttpServletRequest request, AttachmentContent content) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null || content.size() == 0 || !ifRangeMatches(request, content)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private boolean ifRangeMatches(HttpServletRequest request, AttachmentContent content) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(content.etag());
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == content.lastModified() / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void transfer(AttachmentContent content, long start, long length,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, content.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        // O canal de destino não é um FileChannel nem um socket: transferTo lê em blocos para o heap
+        try (FileChannel channel = FileChannel.open(content.path(), StandardOpenOption.READ)) {
+            WritableByteChannel output = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, output);
+                if (sent <= 0) {
+                    throw new EOFException("Attachment content is shorter than its recorded size");
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+}
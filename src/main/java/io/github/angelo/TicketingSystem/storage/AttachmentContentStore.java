@@ -0,0 +1,87 @@
+package io.github.angelo.TicketingSystem.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+/**
+ * Armazenamento local do conteúdo dos anexos, um arquivo por chave (UUID) em
+ * {@code <root>/<2 primeiros caracteres>/<chave>}. Os arquivos são imutáveis: um novo
+ * envio sempre gera uma nova chave.
+ *
+ * Com a escrita ligada à transação, um arquivo gravado numa transação que sofre rollback
+ * é removido, e a remoção de um anexo só apaga o arquivo depois do commit.
+ */
+@Slf4j
+@Component
+public class AttachmentContentStore {
+
+    private final Path root;
+
+    public AttachmentContentStore(@Value("${attachments.storage.path:./data/attachments}") String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+    }
+
+    /**
+     * O multipart já está em disco (spring.servlet.multipart.file-size-threshold), então o
+     * container apenas move o arquivo temporário para o destino; se estiver em outro volume,
+     * copia em blocos. Em nenhum caso o arquivo inteiro passa pelo heap.
+     */
+    public StoredContent store(MultipartFile file) {
+        String key = UUID.randomUUID().toString();
+        Path target = resolve(key);
+        try {
+            Files.createDirectories(target.getParent());
+            file.transferTo(target.toFile());
+            StoredContent stored = new StoredContent(key, Files.size(target));
+            runAfterCompletion(key, false);
+            return stored;
+        } catch (IOException e) {
+            delete(key);
+            throw new UncheckedIOException("Could not store attachment content", e);
+        }
+    }
+
+    public Path resolve(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    public void deleteAfterCommit(String key) {
+        runAfterCompletion(key, true);
+    }
+
+    private void runAfterCompletion(String key, boolean onCommit) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (onCommit) {
+                delete(key);
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == (onCommit ? STATUS_COMMITTED : STATUS_ROLLED_BACK)) {
+                    delete(key);
+                }
+            }
+        });
+    }
+
+    private void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            log.warn("Could not delete attachment content {}: {}", key, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package io.github.angelo.TicketingSystem.storage;
+
+public record StoredContent(String key, long size) {
+}
@@ -0,0 +1,258 @@
+package io.github.angelo.TicketingSystem.stream;
+
+import io.github.angelo.TicketingSystem.dto.response.TicketStreamEventResponse;
+import io.github.angelo.TicketingSystem.event.CommentEvent;
+import io.github.angelo.TicketingSystem.event.TicketEvent;
+import io.github.angelo.TicketingSystem.event.TicketSnapshot;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Barramento em processo que distribui as mudanças em tickets e comentários, após o commit,
+ * para as conexões SSE de GET /api/tickets/stream.
+ * Cada conexão tem uma fila limitada esvaziada por um pool de envio; quem não acompanha o ritmo
+ * (fila cheia) é desconectado e, ao reconectar com Last-Event-ID, recebe o que perdeu a partir
+ * de um buffer circular com os eventos mais recentes.
+ */
+@Slf4j
+@Component
+public class TicketEventBus {
+
+    private static final String RESYNC_EVENT = "RESYNC";
+
+    private final int replaySize;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final ExecutorService senders;
+
+    private final Object lock = new Object();
+    // Guardados por lock
+    private final ArrayDeque<Published> recent = new ArrayDeque<>();
+    // Começa no relógio para que IDs de uma execução anterior sejam sempre menores e disparem RESYNC
+    private long sequence = System.currentTimeMillis();
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    public TicketEventBus(@Value("${tickets.stream.replay-size:1000}") int replaySize,
+                          @Value("${tickets.stream.buffer-size:256}") int bufferSize,
+                          @Value("${tickets.stream.timeout:1800000}") long timeoutMillis,
+                          @Value("${tickets.stream.sender-threads:4}") int senderThreads) {
+        this.replaySize = replaySize;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ticket-stream-");
+        threadFactory.setDaemon(true);
+        this.senders = Executors.newFixedThreadPool(senderThreads, threadFactory);
+    }
+
+    /**
+     * Filtros opcionais; nulo aceita qualquer valor.
+     * O evento passa se o chamado estava ou ficou dentro do filtro, para que o cliente também
+     * veja o chamado sair da sua visão (o corpo traz o estado atual, já fora do filtro).
+     */
+    public record Filter(Long assignedToId, Long statusId, Long categoryId) {
+
+        boolean matches(Published event) {
+            return matches(event.previous()) || matches(event.current());
+        }
+
+        private boolean matches(TicketSnapshot ticket) {
+            if (ticket == null) {
+                return assignedToId == null && statusId == null && categoryId == null;
+            }
+            return (assignedToId == null || assignedToId.equals(ticket.getAssignedToId()))
+                    && (statusId == null || statusId.equals(ticket.getStatusId()))
+                    && (categoryId == null || categoryId.equals(ticket.getCategoryId()));
+        }
+    }
+
+    // Evento no buffer circular junto com os dois snapshots usados pelos filtros
+    private record Published(TicketStreamEventResponse response, TicketSnapshot previous, TicketSnapshot current) {
+    }
+
+    public SseEmitter subscribe(Filter filter, String lastEventId) {
+        return subscribe(filter, lastEventId, new SseEmitter(timeoutMillis));
+    }
+
+    // Recebe o emitter pronto para que os testes observem o que é enviado à conexão
+    SseEmitter subscribe(Filter filter, String lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, filter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        // Replay e registro sob o mesmo lock da publicação: nenhum evento é perdido nem duplicado
+        synchronized (lock) {
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule();
+        return emitter;
+    }
+
+    private void replay(Subscriber subscriber, String lastEventId) {
+        long lastId;
+        try {
+            lastId = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            subscriber.resync();
+            return;
+        }
+        // Eventos posteriores a lastId já saíram do buffer (ou o ID é de outra execução)
+        long oldestAvailable = recent.isEmpty() ? sequence + 1 : recent.peekFirst().response().getId();
+        if (lastId < oldestAvailable - 1 || lastId > sequence) {
+            subscriber.resync();
+            return;
+        }
+        for (Published event : recent) {
+            if (event.response().getId() > lastId && subscriber.filter.matches(event)
+                    && !subscriber.offer(toSse(event.response()))) {
+                subscriber.resync();
+                return;
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTicketEvent(TicketEvent event) {
+        publish("TICKET_" + event.getType(), event.getTicketId(), null, event.getPrevious(), event.getCurrent());
+    }
+
+    @TransactionalEventListener
+    public void onCommentEvent(CommentEvent event) {
+        publish("COMMENT_" + event.getType(), event.getTicketId(), event.getCommentId(),
+                event.getTicket(), event.getTicket());
+    }
+
+    private void publish(String type, Long ticketId, Long commentId, TicketSnapshot previous, TicketSnapshot current) {
+        // Em DELETED só existe o snapshot anterior, que passa a ser o corpo do evento
+        TicketSnapshot ticket = current != null ? current : previous;
+        List<Subscriber> slow = new ArrayList<>();
+        synchronized (lock) {
+            TicketStreamEventResponse response = TicketStreamEventResponse.builder()
+                    .id(++sequence)
+                    .type(type)
+                    .ticketId(ticketId)
+                    .commentId(commentId)
+                    .statusId(ticket != null ? ticket.getStatusId() : null)
+                    .priorityId(ticket != null ? ticket.getPriorityId() : null)
+                    .categoryId(ticket != null ? ticket.getCategoryId() : null)
+                    .assignedToId(ticket != null ? ticket.getAssignedToId() : null)
+                    .occurredAt(LocalDateTime.now())
+                    .build();
+            Published event = new Published(response, previous, current);
+            recent.addLast(event);
+            if (recent.size() > replaySize) {
+                recent.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.filter.matches(event) && !subscriber.offer(toSse(response))) {
+                    slow.add(subscriber);
+                }
+            }
+        }
+        slow.forEach(this::disconnect);
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.stream.heartbeat-interval:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.offer(SseEmitter.event().comment("heartbeat"))) {
+                disconnect(subscriber);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    // O cliente reconecta com Last-Event-ID e recupera o que ainda estiver no buffer circular
+    private void disconnect(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            log.debug("Dropping slow ticket stream subscriber");
+            subscriber.queue.clear();
+            subscriber.emitter.complete();
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(TicketStreamEventResponse event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.getId()))
+                .name(event.getType())
+                .data(event);
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Filter filter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, Filter filter) {
+            this.emitter = emitter;
+            this.filter = filter;
+        }
+
+        private boolean offer(SseEmitter.SseEventBuilder event) {
+            if (!queue.offer(event)) {
+                return false;
+            }
+            schedule();
+            return true;
+        }
+
+        // Descarta o que estava pendente e pede ao cliente que recarregue o estado completo
+        private void resync() {
+            queue.clear();
+            queue.offer(SseEmitter.event().name(RESYNC_EVENT).data("Missed events are no longer available"));
+        }
+
+        // No máximo uma tarefa de envio por conexão, preservando a ordem dos eventos
+        private void schedule() {
+            if (!queue.isEmpty() && draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder next;
+                while ((next = queue.poll()) != null) {
+                    emitter.send(next);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Conexão encerrada pelo cliente ou já completada
+                subscribers.remove(this);
+                queue.clear();
+                return;
+            }
+            draining.set(false);
+            schedule();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.angelo.TicketingSystem.util;
+
+import io.github.angelo.TicketingSystem.exception.BadRequestException;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Marca opaca da sincronização incremental: a última posição (instante, id) entregue
+ * entre os tickets alterados e entre os registros de remoção.
+ */
+@Value
+public class ChangeWatermark {
+
+    private static final String SEPARATOR = "|";
+
+    // Posição inicial: tudo que existe é considerado alteração
+    public static final ChangeWatermark BEGINNING =
+            new ChangeWatermark(LocalDateTime.of(1970, 1, 1, 0, 0), 0L, LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    LocalDateTime updatedAt;
+    Long ticketId;
+    LocalDateTime deletedAt;
+    Long deletedTicketId;
+
+    public String encode() {
+        String raw = updatedAt + SEPARATOR + ticketId + SEPARATOR + deletedAt + SEPARATOR + deletedTicketId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChangeWatermark decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 4) {
+                throw new BadRequestException("Invalid watermark: " + token);
+            }
+            return new ChangeWatermark(
+                    LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]),
+                    LocalDateTime.parse(parts[2]), Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid watermark: " + token);
+        }
+    }
+}
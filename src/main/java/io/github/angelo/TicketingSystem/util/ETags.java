@@ -0,0 +1,74 @@
+package io.github.angelo.TicketingSystem.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * ETags fortes calculados a partir das versões dos dados que compõem a resposta
+ * (ids, updatedAt, agregados), sem precisar serializar o corpo.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Comparação forte do If-Match (RFC 9110): "*" ou algum dos valores listados igual ao ETag atual.
+     * ETags fracos (W/"...") nunca casam.
+     */
+    public static boolean matches(String ifMatch, String etag) {
+        for (String candidate : ifMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Como {@link #matches}, mas aceita qualquer ETag forte que comece pelo prefixo, para recursos
+     * cujo ETag tem uma parte que não indica mudança no que a escrita protege.
+     */
+    public static boolean matchesPrefix(String ifMatch, String prefix) {
+        for (String candidate : ifMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || (value.startsWith(prefix) && value.endsWith("\""))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Comparação fraca do If-None-Match: "*" ou algum valor igual ao ETag, ignorando o prefixo W/.
+     */
+    public static boolean matchesWeakly(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Hash SHA-256 (128 bits) das partes, já entre aspas como exige o cabeçalho ETag
+    public static String strong(Object... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object part : parts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return '"' + HexFormat.of().formatHex(digest.digest(), 0, 16) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
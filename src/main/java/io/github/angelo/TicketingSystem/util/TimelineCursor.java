@@ -0,0 +1,58 @@
+package io.github.angelo.TicketingSystem.util;
+
+import io.github.angelo.TicketingSystem.exception.BadRequestException;
+import io.github.angelo.TicketingSystem.model.enums.TimelineEntryType;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Cursor opaco da timeline do chamado: posição (instante, tipo, id) do último item entregue.
+ * O tipo desempata registros de fontes diferentes com o mesmo instante.
+ */
+@Value
+public class TimelineCursor {
+
+    private static final String SEPARATOR = "|";
+
+    LocalDateTime timestamp;
+    TimelineEntryType type;
+    Long id;
+
+    public String encode() {
+        String raw = timestamp + SEPARATOR + type + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Maior id (exclusivo) que a fonte do tipo informado ainda pode devolver no instante do cursor:
+     * fontes que vêm antes na ordem já foram esgotadas nesse instante, as que vêm depois ainda não.
+     */
+    public long idBoundFor(TimelineEntryType source) {
+        int comparison = source.compareTo(type);
+        if (comparison < 0) {
+            return Long.MAX_VALUE;
+        }
+        return comparison == 0 ? id : Long.MIN_VALUE;
+    }
+
+    public static TimelineCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new BadRequestException("Invalid cursor: " + token);
+            }
+            return new TimelineCursor(
+                    LocalDateTime.parse(parts[0]),
+                    TimelineEntryType.valueOf(parts[1]),
+                    Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor: " + token);
+        }
+    }
+}
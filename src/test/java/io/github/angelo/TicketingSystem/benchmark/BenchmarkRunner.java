@@ -0,0 +1,85 @@
+package io.github.angelo.TicketingSystem.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executa uma operação em várias threads e resume vazão e latência (p50/p99). As threads partem
+ * juntas; uma exceção conta como falha e não interrompe a medição. Não substitui o JMH: os
+ * números servem para comparar variantes na mesma máquina, na mesma execução.
+ */
+final class BenchmarkRunner {
+
+	@FunctionalInterface
+	interface Operation {
+		void run(int thread, int iteration) throws Exception;
+	}
+
+	record Result(String name, int operations, int failures, long elapsedNanos, long p50Nanos, long p99Nanos) {
+
+		double throughput() {
+			return operations * 1_000_000_000.0 / elapsedNanos;
+		}
+
+		Result print() {
+			System.out.printf(Locale.ROOT, "[benchmark] %-48s %8d ops %6d failed %10.1f ops/s  p50 %8.3f ms  p99 %8.3f ms%n",
+					name, operations, failures, throughput(), p50Nanos / 1e6, p99Nanos / 1e6);
+			return this;
+		}
+	}
+
+	private BenchmarkRunner() {
+	}
+
+	static Result run(String name, int threads, int iterationsPerThread, Operation operation) throws Exception {
+		long[] latencies = new long[threads * iterationsPerThread];
+		AtomicInteger failures = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> futures = new ArrayList<>(threads);
+			for (int t = 0; t < threads; t++) {
+				int thread = t;
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < iterationsPerThread; i++) {
+						long begin = System.nanoTime();
+						try {
+							operation.run(thread, i);
+						} catch (Exception e) {
+							failures.incrementAndGet();
+						}
+						latencies[thread * iterationsPerThread + i] = System.nanoTime() - begin;
+					}
+					return null;
+				}));
+			}
+			long begin = System.nanoTime();
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+			long elapsed = System.nanoTime() - begin;
+
+			Arrays.sort(latencies);
+			return new Result(name, latencies.length, failures.get(), elapsed,
+					percentile(latencies, 0.50), percentile(latencies, 0.99)).print();
+		} finally {
+			executor.shutdownNow();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+
+	private static long percentile(long[] sorted, double p) {
+		return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+	}
+
+}
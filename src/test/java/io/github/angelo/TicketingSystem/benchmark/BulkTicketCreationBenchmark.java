@@ -0,0 +1,101 @@
+package io.github.angelo.TicketingSystem.benchmark;
+
+import io.github.angelo.TicketingSystem.dto.request.BulkTicketRequest;
+import io.github.angelo.TicketingSystem.dto.request.TicketRequest;
+import io.github.angelo.TicketingSystem.dto.response.BulkItemResult;
+import io.github.angelo.TicketingSystem.model.User;
+import io.github.angelo.TicketingSystem.repository.CategoryRepository;
+import io.github.angelo.TicketingSystem.repository.PriorityRepository;
+import io.github.angelo.TicketingSystem.repository.UserRepository;
+import io.github.angelo.TicketingSystem.security.AuthenticatedUser;
+import io.github.angelo.TicketingSystem.service.TicketService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Criação de lotes de chamados: N chamadas a createTicket (uma transação e um INSERT por chamado)
+ * contra uma chamada a createTicketsBulk (uma transação, INSERTs em batch JDBC).
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class BulkTicketCreationBenchmark {
+
+	private static final int TICKETS_PER_OPERATION = 1000;
+
+	private static final int ROUNDS = 5;
+
+	@Autowired
+	private TicketService ticketService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PriorityRepository priorityRepository;
+
+	private final Queue<Long> createdTickets = new ConcurrentLinkedQueue<>();
+
+	@AfterEach
+	void tearDown() {
+		authenticate();
+		createdTickets.forEach(ticketService::deleteTicket);
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void singleVersusBulkCreation() throws Exception {
+		List<TicketRequest> items = new ArrayList<>(TICKETS_PER_OPERATION);
+		for (int i = 0; i < TICKETS_PER_OPERATION; i++) {
+			items.add(TicketRequest.builder()
+					.title("Benchmark ticket " + i)
+					.description("Ticket created by the bulk creation benchmark")
+					.categoryId(categoryRepository.findAll().get(0).getId())
+					.priorityId(priorityRepository.findAll().get(0).getId())
+					.build());
+		}
+
+		BenchmarkRunner.Operation single = (thread, i) -> {
+			authenticate();
+			for (TicketRequest item : items) {
+				createdTickets.add(ticketService.createTicket(item).getId());
+			}
+		};
+		BenchmarkRunner.Operation bulk = (thread, i) -> {
+			authenticate();
+			ticketService.createTicketsBulk(BulkTicketRequest.builder().tickets(items).build()).getResults().stream()
+					.map(BulkItemResult::getTicketId)
+					.forEach(createdTickets::add);
+		};
+
+		BenchmarkRunner.run("warm-up", 1, 1, single);
+		BenchmarkRunner.run("warm-up", 1, 1, bulk);
+
+		String perOperation = " (" + TICKETS_PER_OPERATION + " tickets per op)";
+		assertEquals(0, BenchmarkRunner.run("create: createTicket x" + TICKETS_PER_OPERATION + perOperation, 1, ROUNDS, single).failures());
+		assertEquals(0, BenchmarkRunner.run("create: createTicketsBulk" + perOperation, 1, ROUNDS, bulk).failures());
+	}
+
+	// Cada thread do runner precisa do próprio SecurityContext
+	private void authenticate() {
+		User admin = userRepository.findByEmail("admin@ticketsystem.com").orElseThrow();
+		AuthenticatedUser principal = AuthenticatedUser.from(admin);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+	}
+
+}
@@ -0,0 +1,68 @@
+package io.github.angelo.TicketingSystem.benchmark;
+
+import io.github.angelo.TicketingSystem.security.JwtService;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Custo de autenticar um token por requisição: chave e parser refeitos a cada chamada (como antes),
+ * parser montado uma vez e, por fim, o caminho atual com o cache de tokens já verificados.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class JwtVerificationBenchmark {
+
+	private static final int THREADS = 4;
+
+	private static final int ITERATIONS = 50_000;
+
+	private static final String SUBJECT = "benchmark@ticketsystem.com";
+
+	@Autowired
+	private JwtService jwtService;
+
+	@Test
+	void verification() throws Exception {
+		String token = jwtService.generateToken(User.withUsername(SUBJECT).password("unused").build());
+		String secret = (String) ReflectionTestUtils.getField(jwtService, "secretKey");
+		SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+		JwtParser parser = Jwts.parser().verifyWith(key).build();
+
+		BenchmarkRunner.Operation rebuilt = (thread, i) -> check(Jwts.parser()
+				.verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
+				.build()
+				.parseSignedClaims(token)
+				.getPayload()
+				.getSubject());
+		BenchmarkRunner.Operation prebuilt = (thread, i) -> check(parser.parseSignedClaims(token).getPayload().getSubject());
+		BenchmarkRunner.Operation cached = (thread, i) -> check(jwtService.validateToken(token).getSubject());
+
+		// Aquecimento do JIT antes das medições
+		BenchmarkRunner.run("warm-up", THREADS, ITERATIONS / 10, rebuilt);
+		BenchmarkRunner.run("warm-up", THREADS, ITERATIONS / 10, prebuilt);
+		BenchmarkRunner.run("warm-up", THREADS, ITERATIONS / 10, cached);
+
+		assertEquals(0, BenchmarkRunner.run("jwt: key and parser per call", THREADS, ITERATIONS, rebuilt).failures());
+		assertEquals(0, BenchmarkRunner.run("jwt: prebuilt parser", THREADS, ITERATIONS, prebuilt).failures());
+		assertEquals(0, BenchmarkRunner.run("jwt: JwtService.validateToken (cached)", THREADS, ITERATIONS, cached).failures());
+	}
+
+	private static void check(String subject) {
+		if (!SUBJECT.equals(subject)) {
+			throw new IllegalStateException("Unexpected subject " + subject);
+		}
+	}
+
+}
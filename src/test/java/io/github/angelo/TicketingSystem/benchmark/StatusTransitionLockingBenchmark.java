@@ -0,0 +1,237 @@
+package io.github.angelo.TicketingSystem.benchmark;
+
+import io.github.angelo.TicketingSystem.dto.request.StatusUpdateRequest;
+import io.github.angelo.TicketingSystem.dto.request.TicketRequest;
+import io.github.angelo.TicketingSystem.model.Status;
+import io.github.angelo.TicketingSystem.model.StatusHistory;
+import io.github.angelo.TicketingSystem.model.Ticket;
+import io.github.angelo.TicketingSystem.model.User;
+import io.github.angelo.TicketingSystem.repository.CategoryRepository;
+import io.github.angelo.TicketingSystem.repository.PriorityRepository;
+import io.github.angelo.TicketingSystem.repository.StatusHistoryRepository;
+import io.github.angelo.TicketingSystem.repository.StatusRepository;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import io.github.angelo.TicketingSystem.repository.UserRepository;
+import io.github.angelo.TicketingSystem.security.AuthenticatedUser;
+import io.github.angelo.TicketingSystem.service.TicketService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Vazão de transições de status concorrentes. Os cenários "compare-and-set" e "PESSIMISTIC_WRITE"
+ * fazem o mesmo trabalho em uma transação (ler o chamado, gravar o próximo status e inserir o
+ * histórico) e diferem só na estratégia: UPDATE condicional repetido até vencer, contra
+ * SELECT ... FOR UPDATE, como o @Lock(PESSIMISTIC_WRITE); cada um roda sobre um único chamado
+ * disputado e espalhado por vários. O último mede TicketService.updateTicketStatus inteiro
+ * (falhas = 409 após as tentativas). A consistência dos caminhos é verificada em
+ * TicketStatusStressTests.
+ *
+ * <p>Nesta base (H2 em memória, uma CPU) a hipótese de que o compare-and-set supera o lock não se
+ * confirmou: o lock vence nos dois cenários. Na linha disputada o UPDATE condicional espera o lock
+ * da linha do mesmo jeito e, ao ser liberado, os que esperavam falham e releem (cerca de duas
+ * tentativas por transição); sem disputa, o UPDATE em massa do Hibernate custa mais que o UPDATE
+ * da entidade carregada. A vantagem esperada do compare-and-set é não segurar lock entre a
+ * leitura e a escrita, o que só aparece quando há trabalho relevante entre as duas.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class StatusTransitionLockingBenchmark {
+
+	private static final int THREADS = 8;
+
+	private static final int TRANSITIONS_PER_THREAD = 100;
+
+	private static final int SPREAD_TICKETS = 64;
+
+	@Autowired
+	private TicketService ticketService;
+
+	@Autowired
+	private TicketRepository ticketRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PriorityRepository priorityRepository;
+
+	@Autowired
+	private StatusRepository statusRepository;
+
+	@Autowired
+	private StatusHistoryRepository statusHistoryRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private final List<Long> createdTickets = new ArrayList<>();
+
+	private User admin;
+
+	private List<Status> statuses;
+
+	private TransactionTemplate transaction;
+
+	private final AtomicInteger casAttempts = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		admin = userRepository.findByEmail("admin@ticketsystem.com").orElseThrow();
+		statuses = statusRepository.findAll();
+		transaction = new TransactionTemplate(transactionManager);
+	}
+
+	@AfterEach
+	void tearDown() {
+		authenticate();
+		createdTickets.forEach(ticketService::deleteTicket);
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void compareAndSetVersusPessimisticLock() throws Exception {
+		Long casTicket = createTicket();
+		Long lockTicket = createTicket();
+		Long serviceTicket = createTicket();
+		List<Long> casSpread = createTickets(SPREAD_TICKETS);
+		List<Long> lockSpread = createTickets(SPREAD_TICKETS);
+
+		// O SecurityContext é por thread: autentica só na primeira operação de cada uma
+		BenchmarkRunner.Operation service = (thread, i) -> {
+			if (i == 0) {
+				authenticate();
+			}
+			ticketService.updateTicketStatus(StatusUpdateRequest.builder()
+					.ticketId(serviceTicket)
+					.newStatusId(statuses.get((thread + i) % statuses.size()).getId())
+					.changedByUserId(admin.getId())
+					.build(), null);
+		};
+
+		BenchmarkRunner.run("warm-up", THREADS, TRANSITIONS_PER_THREAD / 10, compareAndSet((thread, i) -> casTicket));
+		BenchmarkRunner.run("warm-up", THREADS, TRANSITIONS_PER_THREAD / 10, pessimistic((thread, i) -> lockTicket));
+		BenchmarkRunner.run("warm-up", THREADS, TRANSITIONS_PER_THREAD / 10, service);
+
+		casAttempts.set(0);
+		BenchmarkRunner.run("hot row: compare-and-set, retried", THREADS, TRANSITIONS_PER_THREAD,
+				compareAndSet((thread, i) -> casTicket));
+		printAttempts();
+		BenchmarkRunner.run("hot row: PESSIMISTIC_WRITE", THREADS, TRANSITIONS_PER_THREAD,
+				pessimistic((thread, i) -> lockTicket));
+
+		casAttempts.set(0);
+		BenchmarkRunner.run("spread: compare-and-set, retried", THREADS, TRANSITIONS_PER_THREAD,
+				compareAndSet((thread, i) -> casSpread.get((thread * TRANSITIONS_PER_THREAD + i) % SPREAD_TICKETS)));
+		printAttempts();
+		BenchmarkRunner.run("spread: PESSIMISTIC_WRITE", THREADS, TRANSITIONS_PER_THREAD,
+				pessimistic((thread, i) -> lockSpread.get((thread * TRANSITIONS_PER_THREAD + i) % SPREAD_TICKETS)));
+
+		BenchmarkRunner.run("hot row: updateTicketStatus (failed = 409)", THREADS, TRANSITIONS_PER_THREAD, service);
+	}
+
+	@FunctionalInterface
+	private interface TicketChoice {
+		Long ticketFor(int thread, int iteration);
+	}
+
+	private BenchmarkRunner.Operation compareAndSet(TicketChoice choice) {
+		return (thread, i) -> transaction.executeWithoutResult(status -> {
+			Long ticketId = choice.ticketFor(thread, i);
+			boolean changed = false;
+			while (!changed) {
+				casAttempts.incrementAndGet();
+				// Mesma leitura do lado pessimista, sem o lock; o compare-and-set limpa o contexto
+				Ticket ticket = entityManager.find(Ticket.class, ticketId);
+				Status oldStatus = ticket.getStatus();
+				Status target = nextStatus(oldStatus.getId());
+				changed = ticketRepository.compareAndSetStatus(ticketId, oldStatus.getId(), ticket.getVersion(),
+						target, LocalDateTime.now()) == 1;
+				if (changed) {
+					saveHistory(ticket, oldStatus, target);
+				}
+			}
+		});
+	}
+
+	private BenchmarkRunner.Operation pessimistic(TicketChoice choice) {
+		return (thread, i) -> transaction.executeWithoutResult(status -> {
+			Ticket ticket = entityManager.find(Ticket.class, choice.ticketFor(thread, i), LockModeType.PESSIMISTIC_WRITE);
+			Status oldStatus = ticket.getStatus();
+			Status target = nextStatus(oldStatus.getId());
+			ticket.setStatus(target);
+			saveHistory(ticket, oldStatus, target);
+		});
+	}
+
+	private void printAttempts() {
+		System.out.printf(Locale.ROOT, "[benchmark] %-48s %8d attempts%n", "", casAttempts.get());
+	}
+
+	private Status nextStatus(Long statusId) {
+		for (int i = 0; i < statuses.size(); i++) {
+			if (statuses.get(i).getId().equals(statusId)) {
+				return statuses.get((i + 1) % statuses.size());
+			}
+		}
+		throw new IllegalStateException("Unknown status " + statusId);
+	}
+
+	private void saveHistory(Ticket ticket, Status oldStatus, Status newStatus) {
+		statusHistoryRepository.save(StatusHistory.builder()
+				.ticket(ticket)
+				.oldStatus(oldStatus)
+				.newStatus(newStatus)
+				.changedBy(entityManager.getReference(User.class, admin.getId()))
+				.build());
+	}
+
+	private List<Long> createTickets(int count) {
+		List<Long> ids = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			ids.add(createTicket());
+		}
+		return ids;
+	}
+
+	private Long createTicket() {
+		authenticate();
+		Long id = ticketService.createTicket(TicketRequest.builder()
+				.title("Status locking benchmark ticket")
+				.description("Ticket created by the status locking benchmark")
+				.categoryId(categoryRepository.findAll().get(0).getId())
+				.priorityId(priorityRepository.findAll().get(0).getId())
+				.build()).getId();
+		createdTickets.add(id);
+		return id;
+	}
+
+	private void authenticate() {
+		AuthenticatedUser principal = AuthenticatedUser.from(admin);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+	}
+
+}
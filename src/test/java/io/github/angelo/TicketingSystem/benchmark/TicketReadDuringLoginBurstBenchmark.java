@@ -0,0 +1,137 @@
+package io.github.angelo.TicketingSystem.benchmark;
+
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Latência de GET /api/tickets/{id} sozinho e durante uma rajada de logins ou de registros (BCrypt),
+ * por HTTP real no Tomcat. Com o hash em pool limitado, as requisições excedentes recebem 503 e as
+ * leituras não disputam threads do servidor nem conexões do banco com elas.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.jpa.show-sql=false")
+class TicketReadDuringLoginBurstBenchmark {
+
+	private static final int READERS = 8;
+
+	private static final int READS = 500;
+
+	private static final int BURST_THREADS = 128;
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private JsonMapper jsonMapper;
+
+	@Autowired
+	private TicketRepository ticketRepository;
+
+	private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+	@Test
+	void ticketReadLatencyDuringLoginBurst() throws Exception {
+		measureDuringBurst("login", () -> login().statusCode());
+	}
+
+	/**
+	 * O registro também passa pelo BCrypt; o hash vem antes da transação, então a rajada não
+	 * esgota as conexões que as leituras usam.
+	 */
+	@Test
+	void ticketReadLatencyDuringRegisterBurst() throws Exception {
+		AtomicInteger registrations = new AtomicInteger();
+		String prefix = "burst-" + System.nanoTime() + "-";
+		measureDuringBurst("register", () -> register(prefix + registrations.incrementAndGet() + "@example.com").statusCode());
+	}
+
+	private void measureDuringBurst(String name, Callable<Integer> request) throws Exception {
+		String token = jsonMapper.readTree(login().body()).get("token").asString();
+		HttpRequest read = HttpRequest.newBuilder(uri("/api/tickets/" + ticketRepository.findAll().get(0).getId()))
+				.header("Authorization", "Bearer " + token)
+				.build();
+		BenchmarkRunner.Operation get = (thread, i) -> {
+			int status = client.send(read, HttpResponse.BodyHandlers.discarding()).statusCode();
+			if (status != 200) {
+				throw new IllegalStateException("GET returned " + status);
+			}
+		};
+
+		BenchmarkRunner.run("warm-up", READERS, READS, get);
+		assertEquals(0, BenchmarkRunner.run("ticket GET, idle", READERS, READS, get).failures());
+
+		AtomicBoolean running = new AtomicBoolean(true);
+		Map<Integer, AtomicInteger> burstStatuses = new ConcurrentHashMap<>();
+		ExecutorService burst = Executors.newFixedThreadPool(BURST_THREADS);
+		try {
+			List<Future<?>> requests = new ArrayList<>(BURST_THREADS);
+			for (int t = 0; t < BURST_THREADS; t++) {
+				requests.add(burst.submit(() -> {
+					while (running.get()) {
+						burstStatuses.computeIfAbsent(request.call(), status -> new AtomicInteger()).incrementAndGet();
+					}
+					return null;
+				}));
+			}
+			// Deixa a fila do pool de hash encher antes de medir
+			Thread.sleep(1000);
+			assertEquals(0, BenchmarkRunner.run("ticket GET, " + BURST_THREADS + "-thread " + name + " burst", READERS, READS, get).failures());
+			running.set(false);
+			for (Future<?> future : requests) {
+				future.get();
+			}
+		} finally {
+			burst.shutdownNow();
+		}
+		System.out.println("[benchmark] " + name + " responses during the burst by status: " + burstStatuses);
+	}
+
+	private HttpResponse<String> login() throws Exception {
+		return client.send(HttpRequest.newBuilder(uri("/api/auth/login"))
+						.header("Content-Type", "application/json")
+						.POST(HttpRequest.BodyPublishers.ofString(jsonMapper.writeValueAsString(Map.of(
+								"email", "admin@ticketsystem.com",
+								"password", "admin123"))))
+						.build(),
+				HttpResponse.BodyHandlers.ofString());
+	}
+
+	private HttpResponse<String> register(String email) throws Exception {
+		return client.send(HttpRequest.newBuilder(uri("/api/auth/register"))
+						.header("Content-Type", "application/json")
+						.POST(HttpRequest.BodyPublishers.ofString(jsonMapper.writeValueAsString(Map.of(
+								"name", "Burst User",
+								"email", email,
+								"password", "burst123",
+								"role", "USER"))))
+						.build(),
+				HttpResponse.BodyHandlers.ofString());
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+}
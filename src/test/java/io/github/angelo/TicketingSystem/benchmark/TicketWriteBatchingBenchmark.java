@@ -0,0 +1,112 @@
+package io.github.angelo.TicketingSystem.benchmark;
+
+import io.github.angelo.TicketingSystem.model.Category;
+import io.github.angelo.TicketingSystem.model.Priority;
+import io.github.angelo.TicketingSystem.model.Status;
+import io.github.angelo.TicketingSystem.model.Ticket;
+import io.github.angelo.TicketingSystem.model.User;
+import io.github.angelo.TicketingSystem.repository.CategoryRepository;
+import io.github.angelo.TicketingSystem.repository.PriorityRepository;
+import io.github.angelo.TicketingSystem.repository.StatusRepository;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import io.github.angelo.TicketingSystem.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Vazão de escrita de chamados com os INSERTs em batch JDBC (IDs pooled-lo, batch de 50) e com
+ * o batch desligado na sessão, que reproduz um INSERT por ida ao banco como no esquema anterior.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class TicketWriteBatchingBenchmark {
+
+	private static final int THREADS = 4;
+
+	private static final int ROUNDS = 10;
+
+	private static final int TICKETS_PER_TRANSACTION = 200;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private TicketRepository ticketRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PriorityRepository priorityRepository;
+
+	@Autowired
+	private StatusRepository statusRepository;
+
+	private final Queue<Long> createdTickets = new ConcurrentLinkedQueue<>();
+
+	@AfterEach
+	void tearDown() {
+		ticketRepository.deleteAllByIdInBatch(createdTickets);
+	}
+
+	@Test
+	void insertThroughput() throws Exception {
+		User admin = userRepository.findByEmail("admin@ticketsystem.com").orElseThrow();
+		Category category = categoryRepository.findAll().get(0);
+		Priority priority = priorityRepository.findAll().get(0);
+		Status open = statusRepository.findByName("Open").orElseThrow();
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+		BenchmarkRunner.Operation batched = (thread, i) -> transaction.executeWithoutResult(status ->
+				insert(admin, category, priority, open, null));
+		BenchmarkRunner.Operation unbatched = (thread, i) -> transaction.executeWithoutResult(status ->
+				insert(admin, category, priority, open, 1));
+
+		BenchmarkRunner.run("warm-up", THREADS, ROUNDS, batched);
+		BenchmarkRunner.run("warm-up", THREADS, ROUNDS, unbatched);
+
+		String perOperation = " (" + TICKETS_PER_TRANSACTION + " tickets per op)";
+		assertEquals(0, BenchmarkRunner.run("insert: no JDBC batching" + perOperation, THREADS, ROUNDS, unbatched).failures());
+		assertEquals(0, BenchmarkRunner.run("insert: JDBC batch of 50" + perOperation, THREADS, ROUNDS, batched).failures());
+	}
+
+	private void insert(User user, Category category, Priority priority, Status status, Integer jdbcBatchSize) {
+		if (jdbcBatchSize != null) {
+			entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+		}
+		List<Ticket> tickets = new ArrayList<>(TICKETS_PER_TRANSACTION);
+		for (int i = 0; i < TICKETS_PER_TRANSACTION; i++) {
+			tickets.add(Ticket.builder()
+					.title("Write benchmark ticket " + i)
+					.description("Ticket created by the write batching benchmark")
+					.user(user)
+					.category(category)
+					.priority(priority)
+					.status(status)
+					.build());
+		}
+		ticketRepository.saveAll(tickets).forEach(ticket -> createdTickets.add(ticket.getId()));
+	}
+
+}
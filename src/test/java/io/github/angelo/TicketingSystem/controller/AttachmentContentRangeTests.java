@@ -0,0 +1,169 @@
+package io.github.angelo.TicketingSystem.controller;
+
+import io.github.angelo.TicketingSystem.repository.CategoryRepository;
+import io.github.angelo.TicketingSystem.repository.PriorityRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "attachments.storage.path=${java.io.tmpdir}/ticketing-system-test-attachments")
+@AutoConfigureMockMvc
+class AttachmentContentRangeTests {
+
+	private static final byte[] CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz".getBytes(StandardCharsets.US_ASCII);
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JsonMapper jsonMapper;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PriorityRepository priorityRepository;
+
+	private String authorization;
+
+	private Long ticketId;
+
+	private Long attachmentId;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		MvcResult login = mockMvc.perform(post("/api/auth/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(jsonMapper.writeValueAsString(Map.of(
+								"email", "admin@ticketsystem.com",
+								"password", "admin123"))))
+				.andExpect(status().isOk())
+				.andReturn();
+		authorization = "Bearer " + jsonMapper.readTree(login.getResponse().getContentAsString()).get("token").asString();
+
+		MvcResult ticket = mockMvc.perform(post("/api/tickets")
+						.header(HttpHeaders.AUTHORIZATION, authorization)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(jsonMapper.writeValueAsString(Map.of(
+								"title", "Attachment range ticket",
+								"description", "Ticket created by the attachment range test",
+								"categoryId", categoryRepository.findAll().get(0).getId(),
+								"priorityId", priorityRepository.findAll().get(0).getId()))))
+				.andExpect(status().isCreated())
+				.andReturn();
+		ticketId = jsonMapper.readTree(ticket.getResponse().getContentAsString()).get("id").asLong();
+
+		MvcResult attachment = mockMvc.perform(multipart("/api/attachments")
+						.file(new MockMultipartFile("file", "range.txt", MediaType.TEXT_PLAIN_VALUE, CONTENT))
+						.param("ticketId", String.valueOf(ticketId))
+						.header(HttpHeaders.AUTHORIZATION, authorization))
+				.andExpect(status().isCreated())
+				.andReturn();
+		attachmentId = jsonMapper.readTree(attachment.getResponse().getContentAsString()).get("id").asLong();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		mockMvc.perform(delete("/api/tickets/{id}", ticketId).header(HttpHeaders.AUTHORIZATION, authorization));
+	}
+
+	@Test
+	void fullContentAdvertisesRanges() throws Exception {
+		mockMvc.perform(getContent())
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+				.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length))
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andExpect(content().bytes(CONTENT));
+	}
+
+	@Test
+	void singleRangeReturns206WithThatSlice() throws Exception {
+		mockMvc.perform(getContent().header(HttpHeaders.RANGE, "bytes=10-15"))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-15/" + CONTENT.length))
+				.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 6))
+				.andExpect(content().bytes(Arrays.copyOfRange(CONTENT, 10, 16)));
+
+		mockMvc.perform(getContent().header(HttpHeaders.RANGE, "bytes=-4"))
+				.andExpect(status().isPartialContent())
+				.andExpect(content().bytes(Arrays.copyOfRange(CONTENT, CONTENT.length - 4, CONTENT.length)));
+	}
+
+	@Test
+	void unsatisfiableRangeReturns416() throws Exception {
+		mockMvc.perform(getContent().header(HttpHeaders.RANGE, "bytes=" + CONTENT.length + "-"))
+				.andExpect(status().isRequestedRangeNotSatisfiable())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + CONTENT.length));
+	}
+
+	@Test
+	void staleIfRangeReturnsFullContent() throws Exception {
+		mockMvc.perform(getContent()
+						.header(HttpHeaders.RANGE, "bytes=0-3")
+						.header(HttpHeaders.IF_RANGE, "\"stale\""))
+				.andExpect(status().isOk())
+				.andExpect(content().bytes(CONTENT));
+	}
+
+	@Test
+	void matchingIfRangeReturnsTheSlice() throws Exception {
+		String etag = mockMvc.perform(getContent())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(getContent()
+						.header(HttpHeaders.RANGE, "bytes=0-3")
+						.header(HttpHeaders.IF_RANGE, etag))
+				.andExpect(status().isPartialContent())
+				.andExpect(content().bytes(Arrays.copyOfRange(CONTENT, 0, 4)));
+	}
+
+	@Test
+	void multipleOrMalformedRangesReturnFullContent() throws Exception {
+		mockMvc.perform(getContent().header(HttpHeaders.RANGE, "bytes=0-3,8-11"))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+				.andExpect(content().bytes(CONTENT));
+
+		mockMvc.perform(getContent().header(HttpHeaders.RANGE, "lines=1-2"))
+				.andExpect(status().isOk())
+				.andExpect(content().bytes(CONTENT));
+	}
+
+	@Test
+	void matchingIfNoneMatchReturns304() throws Exception {
+		String etag = mockMvc.perform(getContent())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(getContent().header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+	}
+
+	private MockHttpServletRequestBuilder getContent() {
+		return get("/api/attachments/{id}/content", attachmentId)
+				.header(HttpHeaders.AUTHORIZATION, authorization);
+	}
+
+}
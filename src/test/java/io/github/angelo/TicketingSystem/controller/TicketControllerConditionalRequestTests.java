@@ -0,0 +1,233 @@
+package io.github.angelo.TicketingSystem.controller;
+
+import io.github.angelo.TicketingSystem.model.Category;
+import io.github.angelo.TicketingSystem.model.Ticket;
+import io.github.angelo.TicketingSystem.repository.CategoryRepository;
+import io.github.angelo.TicketingSystem.repository.PriorityRepository;
+import io.github.angelo.TicketingSystem.repository.StatusRepository;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TicketControllerConditionalRequestTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JsonMapper jsonMapper;
+
+	@Autowired
+	private TicketRepository ticketRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PriorityRepository priorityRepository;
+
+	@Autowired
+	private StatusRepository statusRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private String authorization;
+
+	private Ticket ticket;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		MvcResult login = mockMvc.perform(post("/api/auth/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(jsonMapper.writeValueAsString(Map.of(
+								"email", "admin@ticketsystem.com",
+								"password", "admin123"))))
+				.andExpect(status().isOk())
+				.andReturn();
+		authorization = "Bearer " + jsonMapper.readTree(login.getResponse().getContentAsString()).get("token").asString();
+
+		// Criado pela API para que índices e contadores em memória recebam o evento
+		MvcResult created = mockMvc.perform(post("/api/tickets")
+						.header(HttpHeaders.AUTHORIZATION, authorization)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(jsonMapper.writeValueAsString(Map.of(
+								"title", "Conditional request ticket",
+								"description", "Ticket created by the conditional request test",
+								"categoryId", categoryRepository.findAll().get(0).getId(),
+								"priorityId", priorityRepository.findAll().get(0).getId()))))
+				.andExpect(status().isCreated())
+				.andReturn();
+		Long id = jsonMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+		ticket = ticketRepository.findWithDetailsById(id).orElseThrow();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		mockMvc.perform(delete("/api/tickets/{id}", ticket.getId()).header(HttpHeaders.AUTHORIZATION, authorization));
+	}
+
+	@Test
+	void getAnswersMatchingIfNoneMatchWith304() throws Exception {
+		String etag = getETag();
+
+		mockMvc.perform(get("/api/tickets/{id}", ticket.getId())
+						.header(HttpHeaders.AUTHORIZATION, authorization)
+						.header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, etag))
+				.andExpect(content().bytes(new byte[0]));
+
+		mockMvc.perform(get("/api/tickets/{id}", ticket.getId())
+						.header(HttpHeaders.AUTHORIZATION, authorization)
+						.header(HttpHeaders.IF_NONE_MATCH, "W/" + etag))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void statusChangeInvalidatesETag() throws Exception {
+		String etag = getETag();
+
+		changeStatus("In Progress").andExpect(status().isOk());
+
+		mockMvc.perform(get("/api/tickets/{id}", ticket.getId())
+						.header(HttpHeaders.AUTHORIZATION, authorization)
+						.header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk());
+		assertNotEquals(etag, getETag());
+	}
+
+	@Test
+	void staleIfNoneMatchReadsTheVersionOnce() throws Exception {
+		String stale = getETag();
+		changeStatus("In Progress").andExpect(status().isOk());
+		// Deixa o JSON da nova versão em cache
+		String current = getETag();
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		mockMvc.perform(get("/api/tickets/{id}", ticket.getId())
+						.header(HttpHeaders.AUTHORIZATION, authorization)
+						.header(HttpHeaders.IF_NONE_MATCH, stale))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, current));
+		// A versão, lida uma só vez, decide o 304 e escolhe o corpo em cache
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void commentEndpointsAnswer304UntilTheListChanges() throws Exception {
+		String listETag = getETag("/api/comments/ticket/{id}", ticket.getId());
+		assertNotModified("/api/comments/ticket/{id}", ticket.getId(), listETag);
+
+		MvcResult created = mockMvc.perform(post("/api/comments")
+						.header(HttpHeaders.AUTHORIZATION, authorization)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(jsonMapper.writeValueAsString(Map.of(
+								"ticketId", ticket.getId(),
+								"userId", ticket.getUser().getId(),
+								"message", "Comment created by the conditional request test"))))
+				.andExpect(status().isCreated())
+				.andReturn();
+		Long commentId = jsonMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+		mockMvc.perform(get("/api/comments/ticket/{id}", ticket.getId())
+						.header(HttpHeaders.AUTHORIZATION, authorization)
+						.header(HttpHeaders.IF_NONE_MATCH, listETag))
+				.andExpect(status().isOk());
+		String createdListETag = getETag("/api/comments/ticket/{id}", ticket.getId());
+		assertNotModified("/api/comments/ticket/{id}", ticket.getId(), createdListETag);
+		assertNotModified("/api/comments/{id}", commentId, getETag("/api/comments/{id}", commentId));
+
+		mockMvc.perform(delete("/api/comments/{id}", commentId)
+						.header(HttpHeaders.AUTHORIZATION, authorization))
+				.andExpect(status().isNoContent());
+		mockMvc.perform(get("/api/comments/ticket/{id}", ticket.getId())
+						.header(HttpHeaders.AUTHORIZATION, authorization)
+						.header(HttpHeaders.IF_NONE_MATCH, createdListETag))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void referenceEndpointsAnswer304UntilTheDataChanges() throws Exception {
+		Category category = ticket.getCategory();
+		String listETag = getETag("/api/categories", null);
+		String itemETag = getETag("/api/categories/{id}", category.getId());
+		assertNotModified("/api/categories", null, listETag);
+		assertNotModified("/api/categories/{id}", category.getId(), itemETag);
+
+		mockMvc.perform(put("/api/categories/{id}", category.getId())
+						.header(HttpHeaders.AUTHORIZATION, authorization)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(jsonMapper.writeValueAsString(Map.of(
+								"name", category.getName(),
+								"description", "Described by the conditional request test"))))
+				.andExpect(status().isOk());
+
+		// ETags derivados do conteúdo: mudam com a descrição, e a resposta nova volta a valer para 304
+		String changedItemETag = getETag("/api/categories/{id}", category.getId());
+		assertNotEquals(listETag, getETag("/api/categories", null));
+		assertNotEquals(itemETag, changedItemETag);
+		assertNotModified("/api/categories/{id}", category.getId(), changedItemETag);
+	}
+
+	private String getETag(String path, Long id) throws Exception {
+		return mockMvc.perform(get(path, id == null ? new Object[0] : new Object[]{id})
+						.header(HttpHeaders.AUTHORIZATION, authorization))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+	}
+
+	private void assertNotModified(String path, Long id, String etag) throws Exception {
+		mockMvc.perform(get(path, id == null ? new Object[0] : new Object[]{id})
+						.header(HttpHeaders.AUTHORIZATION, authorization)
+						.header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+	}
+
+	private String getETag() throws Exception {
+		return mockMvc.perform(get("/api/tickets/{id}", ticket.getId())
+						.header(HttpHeaders.AUTHORIZATION, authorization))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+	}
+
+	private ResultActions changeStatus(String statusName) throws Exception {
+		return mockMvc.perform(patch("/api/tickets/status")
+				.header(HttpHeaders.AUTHORIZATION, authorization)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(jsonMapper.writeValueAsString(Map.of(
+						"ticketId", ticket.getId(),
+						"newStatusId", statusRepository.findByName(statusName).orElseThrow().getId(),
+						"changedByUserId", ticket.getUser().getId()))));
+	}
+
+}
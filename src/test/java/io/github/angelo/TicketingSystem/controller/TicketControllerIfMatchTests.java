@@ -0,0 +1,164 @@
+package io.github.angelo.TicketingSystem.controller;
+
+import io.github.angelo.TicketingSystem.model.Category;
+import io.github.angelo.TicketingSystem.model.Ticket;
+import io.github.angelo.TicketingSystem.repository.CategoryRepository;
+import io.github.angelo.TicketingSystem.repository.PriorityRepository;
+import io.github.angelo.TicketingSystem.repository.StatusRepository;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pré-condições If-Match em PUT e PATCH: a escrita só é aplicada sobre a versão do ETag informado.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TicketControllerIfMatchTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JsonMapper jsonMapper;
+
+	@Autowired
+	private TicketRepository ticketRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PriorityRepository priorityRepository;
+
+	@Autowired
+	private StatusRepository statusRepository;
+
+	private String authorization;
+
+	private Ticket ticket;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		MvcResult login = mockMvc.perform(post("/api/auth/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(jsonMapper.writeValueAsString(Map.of(
+								"email", "admin@ticketsystem.com",
+								"password", "admin123"))))
+				.andExpect(status().isOk())
+				.andReturn();
+		authorization = "Bearer " + jsonMapper.readTree(login.getResponse().getContentAsString()).get("token").asString();
+
+		// Criado pela API para que índices e contadores em memória recebam o evento
+		MvcResult created = mockMvc.perform(post("/api/tickets")
+						.header(HttpHeaders.AUTHORIZATION, authorization)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(jsonMapper.writeValueAsString(Map.of(
+								"title", "If-Match ticket",
+								"description", "Ticket created by the If-Match test",
+								"categoryId", categoryRepository.findAll().get(0).getId(),
+								"priorityId", priorityRepository.findAll().get(0).getId()))))
+				.andExpect(status().isCreated())
+				.andReturn();
+		Long id = jsonMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+		ticket = ticketRepository.findWithDetailsById(id).orElseThrow();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		mockMvc.perform(delete("/api/tickets/{id}", ticket.getId()).header(HttpHeaders.AUTHORIZATION, authorization));
+	}
+
+	@Test
+	void staleIfMatchIsRejectedWith412() throws Exception {
+		String etag = getETag();
+		changeStatus("In Progress", etag).andExpect(status().isOk());
+
+		changeStatus("Resolved", etag).andExpect(status().isPreconditionFailed());
+		updateTicket("Title after stale If-Match", etag).andExpect(status().isPreconditionFailed());
+
+		assertEquals("In Progress", ticketRepository.findWithDetailsById(ticket.getId()).orElseThrow().getStatus().getName());
+	}
+
+	@Test
+	void ifMatchReturnsTheNewETag() throws Exception {
+		String etag = getETag();
+
+		String updated = updateTicket("Title after If-Match", etag)
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		assertEquals(getETag(), updated);
+		changeStatus("In Progress", updated).andExpect(status().isOk());
+	}
+
+	@Test
+	void ifMatchSurvivesReferenceDataRename() throws Exception {
+		String etag = getETag();
+		Category category = ticket.getCategory();
+
+		mockMvc.perform(put("/api/categories/{id}", category.getId())
+						.header(HttpHeaders.AUTHORIZATION, authorization)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(jsonMapper.writeValueAsString(Map.of(
+								"name", category.getName(),
+								"description", "Renamed by the If-Match test"))))
+				.andExpect(status().isOk());
+
+		// O corpo embute dados de referência: a leitura muda, a pré-condição de escrita não
+		assertNotEquals(etag, getETag());
+		updateTicket("Title after rename", etag).andExpect(status().isOk());
+	}
+
+	private String getETag() throws Exception {
+		return mockMvc.perform(get("/api/tickets/{id}", ticket.getId())
+						.header(HttpHeaders.AUTHORIZATION, authorization))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+	}
+
+	private ResultActions changeStatus(String statusName, String ifMatch) throws Exception {
+		return mockMvc.perform(patch("/api/tickets/status")
+				.header(HttpHeaders.AUTHORIZATION, authorization)
+				.header(HttpHeaders.IF_MATCH, ifMatch)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(jsonMapper.writeValueAsString(Map.of(
+						"ticketId", ticket.getId(),
+						"newStatusId", statusRepository.findByName(statusName).orElseThrow().getId(),
+						"changedByUserId", ticket.getUser().getId()))));
+	}
+
+	private ResultActions updateTicket(String title, String ifMatch) throws Exception {
+		return mockMvc.perform(put("/api/tickets/{id}", ticket.getId())
+				.header(HttpHeaders.AUTHORIZATION, authorization)
+				.header(HttpHeaders.IF_MATCH, ifMatch)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(jsonMapper.writeValueAsString(Map.of(
+						"title", title,
+						"description", "Ticket updated by the If-Match test",
+						"categoryId", ticket.getCategory().getId(),
+						"priorityId", ticket.getPriority().getId()))));
+	}
+
+}
@@ -0,0 +1,258 @@
+package io.github.angelo.TicketingSystem.controller;
+
+import io.github.angelo.TicketingSystem.dto.request.AttachmentRequest;
+import io.github.angelo.TicketingSystem.dto.request.CommentRequest;
+import io.github.angelo.TicketingSystem.dto.request.StatusUpdateRequest;
+import io.github.angelo.TicketingSystem.dto.request.TicketRequest;
+import io.github.angelo.TicketingSystem.model.Status;
+import io.github.angelo.TicketingSystem.model.User;
+import io.github.angelo.TicketingSystem.model.enums.TimelineEntryType;
+import io.github.angelo.TicketingSystem.repository.CategoryRepository;
+import io.github.angelo.TicketingSystem.repository.PriorityRepository;
+import io.github.angelo.TicketingSystem.repository.StatusRepository;
+import io.github.angelo.TicketingSystem.repository.UserRepository;
+import io.github.angelo.TicketingSystem.security.AuthenticatedUser;
+import io.github.angelo.TicketingSystem.service.AttachmentService;
+import io.github.angelo.TicketingSystem.service.CommentService;
+import io.github.angelo.TicketingSystem.service.TicketService;
+import io.github.angelo.TicketingSystem.util.TimelineCursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Ordem e paginação por cursor da timeline do chamado. Os registros das três fontes recebem o
+ * mesmo instante para que só o tipo e o id desempatem.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TicketTimelineTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JsonMapper jsonMapper;
+
+	@Autowired
+	private TicketService ticketService;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private AttachmentService attachmentService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private StatusRepository statusRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PriorityRepository priorityRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private String authorization;
+
+	private User admin;
+
+	private Long ticketId;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		MvcResult login = mockMvc.perform(post("/api/auth/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(jsonMapper.writeValueAsString(Map.of(
+								"email", "admin@ticketsystem.com",
+								"password", "admin123"))))
+				.andExpect(status().isOk())
+				.andReturn();
+		authorization = "Bearer " + jsonMapper.readTree(login.getResponse().getContentAsString()).get("token").asString();
+
+		admin = userRepository.findByEmail("admin@ticketsystem.com").orElseThrow();
+		authenticate();
+		ticketId = ticketService.createTicket(TicketRequest.builder()
+				.title("Timeline test ticket")
+				.description("Ticket created by the timeline test")
+				.categoryId(categoryRepository.findAll().get(0).getId())
+				.priorityId(priorityRepository.findAll().get(0).getId())
+				.build()).getId();
+		for (Status status : statusRepository.findAll()) {
+			ticketService.updateTicketStatus(StatusUpdateRequest.builder()
+					.ticketId(ticketId)
+					.newStatusId(status.getId())
+					.changedByUserId(admin.getId())
+					.build(), null);
+		}
+		for (int i = 0; i < 3; i++) {
+			commentService.createComment(CommentRequest.builder()
+					.message("Timeline comment " + i)
+					.ticketId(ticketId)
+					.userId(admin.getId())
+					.build());
+			attachmentService.createAttachment(AttachmentRequest.builder()
+					.fileName("timeline-" + i + ".txt")
+					.fileUrl("https://example.com/timeline-" + i + ".txt")
+					.ticketId(ticketId)
+					.build());
+		}
+		SecurityContextHolder.clearContext();
+
+		// Tudo no mesmo instante, exceto um comentário um segundo antes
+		LocalDateTime instant = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+		jdbcTemplate.update("UPDATE status_history SET changed_at = ? WHERE ticket_id = ?", instant, ticketId);
+		jdbcTemplate.update("UPDATE comment SET created_at = ? WHERE ticket_id = ?", instant, ticketId);
+		jdbcTemplate.update("UPDATE attachment SET uploaded_at = ? WHERE ticket_id = ?", instant, ticketId);
+		jdbcTemplate.update("UPDATE comment SET created_at = ? WHERE id = (SELECT MIN(id) FROM comment WHERE ticket_id = ?)",
+				instant.minusSeconds(1), ticketId);
+	}
+
+	@AfterEach
+	void tearDown() {
+		authenticate();
+		ticketService.deleteTicket(ticketId);
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void entriesWithTheSameInstantAreOrderedByTypeThenId() throws Exception {
+		JsonNode page = timeline(null, 100);
+
+		assertEquals(expectedOrder(), entries(page));
+		assertNull(next(page));
+	}
+
+	@Test
+	void cursorPagesCoverTheTimelineWithoutDuplicatesOrGaps() throws Exception {
+		List<Entry> expected = expectedOrder();
+
+		for (int limit = 1; limit <= 4; limit++) {
+			List<Entry> walked = new ArrayList<>();
+			String after = null;
+			do {
+				JsonNode page = timeline(after, limit);
+				List<Entry> items = entries(page);
+				assertTrue(items.size() <= limit);
+				walked.addAll(items);
+				after = next(page);
+			} while (after != null);
+
+			assertEquals(expected, walked, "limit " + limit);
+			assertEquals(walked.size(), new HashSet<>(walked).size(), "limit " + limit);
+		}
+	}
+
+	@Test
+	void malformedCursorOrLimitReturns400() throws Exception {
+		String notBase64 = "not a cursor!";
+		String wrongShape = new TimelineCursor(LocalDateTime.now(), TimelineEntryType.COMMENT, 1L).encode().substring(4);
+
+		for (String after : List.of(notBase64, wrongShape)) {
+			mockMvc.perform(get("/api/tickets/{id}/timeline", ticketId)
+							.param("after", after)
+							.header(HttpHeaders.AUTHORIZATION, authorization))
+					.andExpect(status().isBadRequest());
+		}
+		mockMvc.perform(get("/api/tickets/{id}/timeline", ticketId)
+						.param("limit", "0")
+						.header(HttpHeaders.AUTHORIZATION, authorization))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/api/tickets/{id}/timeline", ticketId)
+						.param("limit", "abc")
+						.header(HttpHeaders.AUTHORIZATION, authorization))
+				.andExpect(status().isBadRequest());
+	}
+
+	private record Entry(LocalDateTime occurredAt, TimelineEntryType type, Long id) {
+	}
+
+	/**
+	 * Ordem de referência montada direto das tabelas: instante, tipo e id, todos decrescentes.
+	 */
+	private List<Entry> expectedOrder() {
+		List<Entry> entries = new ArrayList<>();
+		entries.addAll(jdbcTemplate.query("SELECT id, changed_at FROM status_history WHERE ticket_id = ?",
+				(rs, row) -> new Entry(rs.getObject(2, LocalDateTime.class), TimelineEntryType.STATUS_CHANGE, rs.getLong(1)),
+				ticketId));
+		entries.addAll(jdbcTemplate.query("SELECT id, created_at FROM comment WHERE ticket_id = ?",
+				(rs, row) -> new Entry(rs.getObject(2, LocalDateTime.class), TimelineEntryType.COMMENT, rs.getLong(1)),
+				ticketId));
+		entries.addAll(jdbcTemplate.query("SELECT id, uploaded_at FROM attachment WHERE ticket_id = ?",
+				(rs, row) -> new Entry(rs.getObject(2, LocalDateTime.class), TimelineEntryType.ATTACHMENT, rs.getLong(1)),
+				ticketId));
+		entries.sort(Comparator.comparing(Entry::occurredAt)
+				.thenComparing(Entry::type)
+				.thenComparing(Entry::id)
+				.reversed());
+		return entries;
+	}
+
+	private JsonNode timeline(String after, int limit) throws Exception {
+		var request = get("/api/tickets/{id}/timeline", ticketId)
+				.param("limit", String.valueOf(limit))
+				.header(HttpHeaders.AUTHORIZATION, authorization);
+		if (after != null) {
+			request.param("after", after);
+		}
+		MvcResult result = mockMvc.perform(request)
+				.andExpect(status().isOk())
+				.andReturn();
+		return jsonMapper.readTree(result.getResponse().getContentAsString());
+	}
+
+	private List<Entry> entries(JsonNode page) {
+		List<Entry> entries = new ArrayList<>();
+		for (JsonNode item : page.get("items")) {
+			entries.add(new Entry(
+					LocalDateTime.parse(item.get("occurredAt").asString()),
+					TimelineEntryType.valueOf(item.get("type").asString()),
+					item.get("id").asLong()));
+		}
+		return entries;
+	}
+
+	private static String next(JsonNode page) {
+		JsonNode next = page.get("next");
+		return next == null || next.isNull() ? null : next.asString();
+	}
+
+	private void authenticate() {
+		AuthenticatedUser principal = AuthenticatedUser.from(admin);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+	}
+
+}
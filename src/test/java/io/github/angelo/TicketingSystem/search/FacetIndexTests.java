@@ -0,0 +1,210 @@
+package io.github.angelo.TicketingSystem.search;
+
+import io.github.angelo.TicketingSystem.event.TicketEvent;
+import io.github.angelo.TicketingSystem.event.TicketSnapshot;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import io.github.angelo.TicketingSystem.repository.projection.TicketStatusView;
+import io.github.angelo.TicketingSystem.search.FacetIndex.Facet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Contagens do índice de facetas conferidas contra uma varredura direta dos mesmos chamados.
+ */
+class FacetIndexTests {
+
+	private final TicketRepository ticketRepository = mock(TicketRepository.class);
+
+	private FacetIndex index;
+
+	// Estado de referência: id -> valores de agrupamento
+	private final Map<Long, TicketSnapshot> tickets = new LinkedHashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		index = new FacetIndex(ticketRepository, mock(PlatformTransactionManager.class));
+	}
+
+	@Test
+	void disjunctiveCountsMatchABruteForceScan() {
+		Random random = new Random(42);
+		for (long id = 1; id <= 500; id++) {
+			tickets.put(id, snapshot(1 + random.nextInt(3), 1 + random.nextInt(4), 1 + random.nextInt(5),
+					random.nextInt(4) == 0 ? null : (long) (2 + random.nextInt(6))));
+		}
+		returnRows(tickets);
+		index.rebuild();
+
+		for (int i = 0; i < 200; i++) {
+			Map<Facet, Set<Long>> selected = new EnumMap<>(Facet.class);
+			selected.put(Facet.STATUS, pick(random, 1, 3));
+			selected.put(Facet.PRIORITY, pick(random, 1, 4));
+			selected.put(Facet.CATEGORY, pick(random, 1, 5));
+			// Inclui o 0 (sem responsável) e valores que não existem no índice
+			selected.put(Facet.ASSIGNEE, pick(random, 0, 9));
+			assertMatchesBruteForce(selected, 1 + random.nextInt(60));
+		}
+		assertMatchesBruteForce(Map.of(), 10);
+	}
+
+	@Test
+	void changesCommittedDuringRebuildAreReplayedOnTheNewBitmaps() {
+		for (long id = 1; id <= 5; id++) {
+			tickets.put(id, snapshot(1, 1, 1, null));
+		}
+		Map<Long, TicketSnapshot> readByRebuild = new LinkedHashMap<>(tickets);
+
+		// As escritas são confirmadas enquanto a reconstrução ainda lê as linhas antigas
+		when(ticketRepository.streamAllStatusViews()).thenAnswer(invocation -> {
+			change(2L, snapshot(2, 1, 1, 7L));
+			change(3L, null);
+			change(6L, snapshot(3, 2, 1, null));
+			// Esta a leitura já vê: reaplicar a mesma mudança não pode duplicar nada
+			change(4L, snapshot(2, 1, 1, null));
+			readByRebuild.put(4L, tickets.get(4L));
+			return rows(readByRebuild).stream();
+		});
+		index.rebuild();
+
+		assertMatchesBruteForce(Map.of(), 10);
+		assertMatchesBruteForce(Map.of(Facet.STATUS, Set.of(2L)), 10);
+		assertMatchesBruteForce(Map.of(Facet.ASSIGNEE, Set.of(FacetIndex.UNASSIGNED)), 10);
+
+		// Depois da troca os eventos voltam a atualizar só os bitmaps em uso
+		change(1L, snapshot(3, 1, 1, null));
+		assertMatchesBruteForce(Map.of(Facet.STATUS, Set.of(3L)), 10);
+	}
+
+	@Test
+	void idsAboveTheSignedIntRangeAreIndexedAsUnsigned() {
+		returnRows(Map.of());
+		index.rebuild();
+
+		change(1L, snapshot(1, 1, 1, null));
+		change(3_000_000_000L, snapshot(1, 1, 1, null));
+		change(FacetIndex.MAX_TICKET_ID, snapshot(2, 1, 1, null));
+
+		FacetIndex.Result result = index.query(Map.of(), 10);
+		assertEquals(List.of(FacetIndex.MAX_TICKET_ID, 3_000_000_000L, 1L), result.getTicketIds());
+		assertEquals(Map.of(1L, 2L, 2L, 1L), result.getCounts().get(Facet.STATUS));
+		assertMatchesBruteForce(Map.of(Facet.STATUS, Set.of(1L)), 10);
+	}
+
+	@Test
+	void idBeyondTheUnsignedIntRangeDisablesQueries() {
+		returnRows(Map.of());
+		index.rebuild();
+
+		// O listener não pode falhar depois do commit: o id fica fora e as consultas passam a ser recusadas
+		index.onTicketEvent(event(FacetIndex.MAX_TICKET_ID + 1, null, snapshot(1, 1, 1, null)));
+
+		assertThrows(IllegalStateException.class, () -> index.query(Map.of(), 10));
+	}
+
+	private void assertMatchesBruteForce(Map<Facet, Set<Long>> selected, int limit) {
+		FacetIndex.Result result = index.query(selected, limit);
+
+		List<Long> matches = tickets.entrySet().stream()
+				.filter(ticket -> matchesAll(ticket.getValue(), selected, null))
+				.map(Map.Entry::getKey)
+				.sorted(Comparator.reverseOrder())
+				.toList();
+		assertEquals(matches.size(), result.getTotal(), selected::toString);
+		assertEquals(matches.subList(0, Math.min(limit, matches.size())), result.getTicketIds(), selected::toString);
+
+		for (Facet facet : Facet.values()) {
+			Map<Long, Long> expected = new HashMap<>();
+			tickets.values().stream()
+					.filter(ticket -> matchesAll(ticket, selected, facet))
+					.forEach(ticket -> expected.merge(valueOf(ticket, facet), 1L, Long::sum));
+			assertEquals(expected, result.getCounts().get(facet), () -> facet + " " + selected);
+		}
+	}
+
+	// Mesma semântica do índice, avaliada chamado a chamado: OU dentro da faceta, E entre facetas
+	private static boolean matchesAll(TicketSnapshot ticket, Map<Facet, Set<Long>> selected, Facet excluded) {
+		for (Map.Entry<Facet, Set<Long>> entry : selected.entrySet()) {
+			if (entry.getKey() != excluded && !entry.getValue().isEmpty()
+					&& !entry.getValue().contains(valueOf(ticket, entry.getKey()))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static Long valueOf(TicketSnapshot ticket, Facet facet) {
+		return switch (facet) {
+			case STATUS -> ticket.getStatusId();
+			case PRIORITY -> ticket.getPriorityId();
+			case CATEGORY -> ticket.getCategoryId();
+			case ASSIGNEE -> ticket.getAssignedToId() != null ? ticket.getAssignedToId() : FacetIndex.UNASSIGNED;
+		};
+	}
+
+	// Cada valor do intervalo entra com chance de um terço; conjunto vazio não filtra
+	private static Set<Long> pick(Random random, int from, int to) {
+		Set<Long> values = new HashSet<>();
+		for (long value = from; value <= to; value++) {
+			if (random.nextInt(3) == 0) {
+				values.add(value);
+			}
+		}
+		return values;
+	}
+
+	// Aplica a mudança ao estado de referência e entrega ao índice o evento correspondente
+	private void change(Long ticketId, TicketSnapshot current) {
+		TicketSnapshot previous = current != null ? tickets.put(ticketId, current) : tickets.remove(ticketId);
+		index.onTicketEvent(event(ticketId, previous, current));
+	}
+
+	private static TicketEvent event(Long ticketId, TicketSnapshot previous, TicketSnapshot current) {
+		TicketEvent.Type type = previous == null ? TicketEvent.Type.CREATED
+				: current == null ? TicketEvent.Type.DELETED : TicketEvent.Type.UPDATED;
+		return TicketEvent.builder()
+				.type(type)
+				.ticketId(ticketId)
+				.previous(previous)
+				.current(current)
+				.build();
+	}
+
+	private void returnRows(Map<Long, TicketSnapshot> source) {
+		List<TicketStatusView> rows = rows(source);
+		when(ticketRepository.streamAllStatusViews()).thenAnswer(invocation -> rows.stream());
+	}
+
+	private static List<TicketStatusView> rows(Map<Long, TicketSnapshot> source) {
+		List<TicketStatusView> rows = new ArrayList<>(source.size());
+		source.forEach((id, ticket) -> rows.add(new TicketStatusView(id, ticket.getStatusId(), ticket.getPriorityId(),
+				ticket.getCategoryId(), ticket.getAssignedToId(), 0L)));
+		return rows;
+	}
+
+	private static TicketSnapshot snapshot(long statusId, long priorityId, long categoryId, Long assignedToId) {
+		return TicketSnapshot.builder()
+				.statusId(statusId)
+				.priorityId(priorityId)
+				.categoryId(categoryId)
+				.assignedToId(assignedToId)
+				.build();
+	}
+
+}
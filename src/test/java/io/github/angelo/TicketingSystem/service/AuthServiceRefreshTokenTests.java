@@ -0,0 +1,210 @@
+package io.github.angelo.TicketingSystem.service;
+
+import io.github.angelo.TicketingSystem.dto.request.RefreshTokenRequest;
+import io.github.angelo.TicketingSystem.dto.request.RegisterRequest;
+import io.github.angelo.TicketingSystem.dto.request.UserRequest;
+import io.github.angelo.TicketingSystem.dto.response.AuthResponse;
+import io.github.angelo.TicketingSystem.exception.InvalidTokenException;
+import io.github.angelo.TicketingSystem.model.enums.UserRole;
+import io.github.angelo.TicketingSystem.repository.UserRepository;
+import io.github.angelo.TicketingSystem.security.JwtService;
+import io.github.angelo.TicketingSystem.security.TokenRevocationList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Rotação de refresh tokens, detecção de reuso, expiração, logout e troca de credenciais.
+ */
+@SpringBootTest
+class AuthServiceRefreshTokenTests {
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtService jwtService;
+
+	@Autowired
+	private TokenRevocationList tokenRevocationList;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private AuthResponse session;
+
+	@BeforeEach
+	void setUp() {
+		session = authService.register(RegisterRequest.builder()
+				.name("Refresh token test user")
+				.email("refresh-test@ticketsystem.com")
+				.password("secret123")
+				.role(UserRole.USER)
+				.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (userRepository.existsById(session.getUserId())) {
+			userService.deleteUser(session.getUserId());
+		}
+	}
+
+	@Test
+	void refreshRotatesTheTokenPair() {
+		AuthResponse rotated = refresh(session.getRefreshToken());
+
+		assertNotEquals(session.getRefreshToken(), rotated.getRefreshToken());
+		assertEquals(session.getUserId(), rotated.getUserId());
+		assertEquals(1, activeRefreshTokens());
+		// O novo token também pode ser rotacionado
+		refresh(rotated.getRefreshToken());
+	}
+
+	@Test
+	void reusingARotatedTokenRevokesEveryTokenOfTheUser() {
+		AuthResponse rotated = refresh(session.getRefreshToken());
+
+		assertThrows(InvalidTokenException.class, () -> refresh(session.getRefreshToken()));
+
+		assertEquals(0, activeRefreshTokens());
+		assertThrows(InvalidTokenException.class, () -> refresh(rotated.getRefreshToken()));
+	}
+
+	@Test
+	void concurrentRefreshesOfOneTokenLetOnlyOneThrough() throws Exception {
+		int threads = 4;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<AuthResponse>> futures = new ArrayList<>(threads);
+			for (int t = 0; t < threads; t++) {
+				Callable<AuthResponse> task = () -> {
+					start.await();
+					return refresh(session.getRefreshToken());
+				};
+				futures.add(executor.submit(task));
+			}
+			start.countDown();
+
+			int succeeded = 0;
+			for (Future<AuthResponse> future : futures) {
+				try {
+					future.get();
+					succeeded++;
+				} catch (ExecutionException e) {
+					assertInstanceOf(InvalidTokenException.class, e.getCause());
+				}
+			}
+			assertEquals(1, succeeded);
+		} finally {
+			executor.shutdownNow();
+		}
+		// Os perdedores viram reuso: o par emitido ao vencedor também é revogado
+		assertEquals(0, activeRefreshTokens());
+	}
+
+	@Test
+	void expiredRefreshTokenIsRejected() {
+		jdbcTemplate.update("UPDATE refresh_token SET expires_at = ? WHERE user_id = ?",
+				LocalDateTime.now().minusMinutes(1), session.getUserId());
+
+		InvalidTokenException e = assertThrows(InvalidTokenException.class, () -> refresh(session.getRefreshToken()));
+		assertEquals("Refresh token expired", e.getMessage());
+	}
+
+	@Test
+	void logoutRevokesTheRefreshTokenAndTheAccessToken() {
+		String jti = jwtService.validateToken(session.getToken()).getId();
+		assertFalse(tokenRevocationList.isRevoked(jti));
+
+		authService.logout(new RefreshTokenRequest(session.getRefreshToken()), session.getToken());
+
+		assertTrue(tokenRevocationList.isRevoked(jti));
+		assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM revoked_token WHERE jti = ?", Integer.class, jti));
+		assertThrows(InvalidTokenException.class, () -> refresh(session.getRefreshToken()));
+	}
+
+	@Test
+	void revocationIsNotAppliedInMemoryWhenTheTransactionRollsBack() {
+		String jti = UUID.randomUUID().toString();
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			tokenRevocationList.revoke(jti, new Date(System.currentTimeMillis() + 60_000));
+			status.setRollbackOnly();
+		});
+
+		assertFalse(tokenRevocationList.isRevoked(jti));
+		assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM revoked_token WHERE jti = ?", Integer.class, jti));
+	}
+
+	@Test
+	void passwordChangeRevokesRefreshTokens() {
+		changePassword();
+
+		assertEquals(0, activeRefreshTokens());
+		assertThrows(InvalidTokenException.class, () -> refresh(session.getRefreshToken()));
+	}
+
+	@Test
+	void refreshTokenIssuedUnderAnOlderTokenVersionIsRejected() {
+		changePassword();
+		// Mesmo ativo, o token antigo carrega a versão anterior à troca de senha
+		jdbcTemplate.update("UPDATE refresh_token SET revoked = false WHERE user_id = ?", session.getUserId());
+
+		InvalidTokenException e = assertThrows(InvalidTokenException.class, () -> refresh(session.getRefreshToken()));
+		assertEquals("Refresh token was issued before a credential change", e.getMessage());
+		assertEquals(0, activeRefreshTokens());
+	}
+
+	private AuthResponse refresh(String refreshToken) {
+		return authService.refresh(new RefreshTokenRequest(refreshToken));
+	}
+
+	private void changePassword() {
+		userService.updateUser(session.getUserId(), UserRequest.builder()
+				.name(session.getName())
+				.email(session.getEmail())
+				.password("another-secret123")
+				.role(session.getRole())
+				.build());
+	}
+
+	private int activeRefreshTokens() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refresh_token WHERE user_id = ? AND revoked = false",
+				Integer.class, session.getUserId());
+	}
+
+}
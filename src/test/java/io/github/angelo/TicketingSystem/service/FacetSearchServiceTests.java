@@ -0,0 +1,88 @@
+package io.github.angelo.TicketingSystem.service;
+
+import io.github.angelo.TicketingSystem.cache.ReferenceDataCache;
+import io.github.angelo.TicketingSystem.dto.request.TicketFacetRequest;
+import io.github.angelo.TicketingSystem.dto.response.StatCountResponse;
+import io.github.angelo.TicketingSystem.dto.response.TicketFacetResponse;
+import io.github.angelo.TicketingSystem.exception.BadRequestException;
+import io.github.angelo.TicketingSystem.model.Category;
+import io.github.angelo.TicketingSystem.model.Priority;
+import io.github.angelo.TicketingSystem.model.Status;
+import io.github.angelo.TicketingSystem.search.FacetIndex;
+import io.github.angelo.TicketingSystem.search.FacetIndex.Facet;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FacetSearchServiceTests {
+
+	private final FacetIndex facetIndex = mock(FacetIndex.class);
+
+	private final ReferenceDataCache referenceDataCache = mock(ReferenceDataCache.class);
+
+	private final FacetSearchService facetSearchService = new FacetSearchService(facetIndex, referenceDataCache);
+
+	@Test
+	void limitOutsideTheAllowedRangeIsRejected() {
+		for (int limit : new int[] {-1, 1001}) {
+			assertThrows(BadRequestException.class,
+					() -> facetSearchService.search(TicketFacetRequest.builder().limit(limit).build()));
+		}
+		verify(facetIndex, never()).query(any(), anyInt());
+	}
+
+	@Test
+	void countsAreNamedAndSortedByCountThenId() {
+		Map<Facet, Map<Long, Long>> counts = new EnumMap<>(Facet.class);
+		counts.put(Facet.STATUS, Map.of(1L, 4L, 2L, 9L, 3L, 4L));
+		counts.put(Facet.PRIORITY, Map.of(1L, 17L));
+		counts.put(Facet.CATEGORY, Map.of(5L, 17L));
+		counts.put(Facet.ASSIGNEE, Map.of(FacetIndex.UNASSIGNED, 10L, 8L, 7L));
+		Map<Facet, Set<Long>> selected = new EnumMap<>(Facet.class);
+		selected.put(Facet.STATUS, null);
+		selected.put(Facet.PRIORITY, Set.of(1L));
+		selected.put(Facet.CATEGORY, null);
+		selected.put(Facet.ASSIGNEE, null);
+		when(facetIndex.query(selected, 2)).thenReturn(new FacetIndex.Result(17, List.of(40L, 39L), counts));
+		when(referenceDataCache.findStatus(anyLong()))
+				.thenAnswer(invocation -> Optional.of(Status.builder().id(invocation.getArgument(0)).name("S" + invocation.getArgument(0)).build()));
+		when(referenceDataCache.findPriority(1L)).thenReturn(Optional.of(Priority.builder().id(1L).name("Low").build()));
+		// Categoria removida depois de indexada: aparece sem nome
+		when(referenceDataCache.findCategory(5L)).thenReturn(Optional.<Category>empty());
+
+		TicketFacetResponse response = facetSearchService.search(TicketFacetRequest.builder()
+				.priorityIds(Set.of(1L))
+				.limit(2)
+				.build());
+
+		assertEquals(17, response.getTotal());
+		assertEquals(List.of(40L, 39L), response.getTicketIds());
+		assertEquals(List.of(count(2L, "S2", 9), count(1L, "S1", 4), count(3L, "S3", 4)), response.getStatuses());
+		assertEquals(List.of(count(1L, "Low", 17)), response.getPriorities());
+		assertEquals(List.of(count(5L, null, 17)), response.getCategories());
+		assertEquals(List.of(count(FacetIndex.UNASSIGNED, "Unassigned", 10), count(8L, null, 7)), response.getAssignees());
+	}
+
+	private static StatCountResponse count(Long id, String name, long count) {
+		return StatCountResponse.builder()
+				.id(id)
+				.name(name)
+				.count(count)
+				.build();
+	}
+
+}
@@ -0,0 +1,111 @@
+package io.github.angelo.TicketingSystem.service;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Conta, por SQL, as idas ao banco (execute*, executeBatch) e as linhas enfileiradas com addBatch
+ * nos PreparedStatements do DataSource da aplicação. Ao contrário das estatísticas do Hibernate,
+ * enxerga também o JDBC emitido fora dele e distingue um batch de N comandos avulsos.
+ */
+@TestConfiguration
+class JdbcStatementCounter implements BeanPostProcessor {
+
+	private static final Set<String> EXECUTIONS = Set.of(
+			"execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+	private final Map<String, AtomicInteger> executions = new ConcurrentHashMap<>();
+
+	private final Map<String, AtomicInteger> batchedRows = new ConcurrentHashMap<>();
+
+	void reset() {
+		executions.clear();
+		batchedRows.clear();
+	}
+
+	/** Idas ao banco de comandos cujo SQL, em minúsculas e com espaços colapsados, começa com o prefixo. */
+	int executions(String sqlPrefix) {
+		return sum(executions, sqlPrefix);
+	}
+
+	/** Linhas enfileiradas com addBatch em comandos cujo SQL começa com o prefixo. */
+	int batchedRows(String sqlPrefix) {
+		return sum(batchedRows, sqlPrefix);
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof DataSource dataSource) {
+			return new DelegatingDataSource(dataSource) {
+				@Override
+				public Connection getConnection() throws SQLException {
+					return wrap(super.getConnection());
+				}
+
+				@Override
+				public Connection getConnection(String username, String password) throws SQLException {
+					return wrap(super.getConnection(username, password));
+				}
+			};
+		}
+		return bean;
+	}
+
+	private Connection wrap(Connection connection) {
+		return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+				(proxy, method, args) -> {
+					Object result = invoke(connection, method, args);
+					if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+						return wrap(statement, normalize((String) args[0]));
+					}
+					return result;
+				});
+	}
+
+	private PreparedStatement wrap(PreparedStatement statement, String sql) {
+		return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{PreparedStatement.class},
+				(proxy, method, args) -> {
+					boolean noArgs = args == null || args.length == 0;
+					if (noArgs && EXECUTIONS.contains(method.getName())) {
+						executions.computeIfAbsent(sql, key -> new AtomicInteger()).incrementAndGet();
+					} else if (noArgs && method.getName().equals("addBatch")) {
+						batchedRows.computeIfAbsent(sql, key -> new AtomicInteger()).incrementAndGet();
+					}
+					return invoke(statement, method, args);
+				});
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	private static String normalize(String sql) {
+		return sql.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+
+	private static int sum(Map<String, AtomicInteger> counts, String sqlPrefix) {
+		return counts.entrySet().stream()
+				.filter(entry -> entry.getKey().startsWith(sqlPrefix))
+				.mapToInt(entry -> entry.getValue().get())
+				.sum();
+	}
+
+}
@@ -0,0 +1,105 @@
+package io.github.angelo.TicketingSystem.service;
+
+import io.github.angelo.TicketingSystem.dto.request.StatusRequest;
+import io.github.angelo.TicketingSystem.dto.request.TicketRequest;
+import io.github.angelo.TicketingSystem.exception.ConflictException;
+import io.github.angelo.TicketingSystem.model.Ticket;
+import io.github.angelo.TicketingSystem.model.User;
+import io.github.angelo.TicketingSystem.repository.CategoryRepository;
+import io.github.angelo.TicketingSystem.repository.PriorityRepository;
+import io.github.angelo.TicketingSystem.repository.StatusRepository;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import io.github.angelo.TicketingSystem.repository.UserRepository;
+import io.github.angelo.TicketingSystem.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Status, categorias e prioridades em uso não são removidos: a remoção em cascata apagaria
+ * chamados sem tombstone nem evento.
+ */
+@SpringBootTest
+class ReferenceDataDeletionTests {
+
+	@Autowired
+	private TicketService ticketService;
+
+	@Autowired
+	private StatusService statusService;
+
+	@Autowired
+	private CategoryService categoryService;
+
+	@Autowired
+	private PriorityService priorityService;
+
+	@Autowired
+	private TicketRepository ticketRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PriorityRepository priorityRepository;
+
+	@Autowired
+	private StatusRepository statusRepository;
+
+	private Ticket ticket;
+
+	@BeforeEach
+	void setUp() {
+		User admin = userRepository.findByEmail("admin@ticketsystem.com").orElseThrow();
+		AuthenticatedUser principal = AuthenticatedUser.from(admin);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+		Long id = ticketService.createTicket(TicketRequest.builder()
+				.title("Reference data deletion ticket")
+				.description("Ticket created by the reference data deletion test")
+				.categoryId(categoryRepository.findAll().get(0).getId())
+				.priorityId(priorityRepository.findAll().get(0).getId())
+				.build()).getId();
+		ticket = ticketRepository.findWithDetailsById(id).orElseThrow();
+	}
+
+	@AfterEach
+	void tearDown() {
+		ticketService.deleteTicket(ticket.getId());
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void referenceDataInUseIsNotDeleted() {
+		assertThrows(ConflictException.class, () -> statusService.deleteStatus(ticket.getStatus().getId()));
+		assertThrows(ConflictException.class, () -> categoryService.deleteCategory(ticket.getCategory().getId()));
+		assertThrows(ConflictException.class, () -> priorityService.deletePriority(ticket.getPriority().getId()));
+
+		assertTrue(ticketRepository.existsById(ticket.getId()));
+		assertTrue(statusRepository.existsById(ticket.getStatus().getId()));
+	}
+
+	@Test
+	void unusedStatusIsDeleted() {
+		Long statusId = statusService.createStatus(StatusRequest.builder()
+				.name("Unused deletion test status")
+				.build()).getId();
+
+		statusService.deleteStatus(statusId);
+
+		assertFalse(statusRepository.existsById(statusId));
+	}
+
+}
@@ -0,0 +1,92 @@
+package io.github.angelo.TicketingSystem.service;
+
+import io.github.angelo.TicketingSystem.dto.request.BulkStatusUpdateRequest;
+import io.github.angelo.TicketingSystem.dto.response.BulkStatusUpdateResponse;
+import io.github.angelo.TicketingSystem.model.Status;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+import java.util.Set;
+
+import static io.github.angelo.TicketingSystem.service.TicketConcurrencyFixture.callRealMethod;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Mudança de status em massa com uma escrita concorrente simulada: logo depois que o serviço lê
+ * os chamados, outra transação já confirmada incrementa a versão de um deles.
+ */
+@SpringBootTest
+@Import(TicketConcurrencyFixture.class)
+class TicketBulkStatusConcurrencyTests {
+
+	private static final long MISSING_TICKET_ID = Long.MAX_VALUE;
+
+	@Autowired
+	private TicketService ticketService;
+
+	@MockitoSpyBean
+	private TicketRepository ticketRepository;
+
+	@Autowired
+	private TicketConcurrencyFixture fixture;
+
+	private Status open;
+
+	private Status resolved;
+
+	@BeforeEach
+	void setUp() {
+		fixture.authenticateAsAdmin();
+		open = fixture.status("Open");
+		resolved = fixture.status("Resolved");
+	}
+
+	@AfterEach
+	void tearDown() {
+		fixture.cleanUp();
+	}
+
+	@Test
+	void bulkChangePartitionsTicketsAndSkipsConcurrentlyModifiedOnes() {
+		Long alreadyResolved = fixture.createTicket();
+		fixture.changeStatus(alreadyResolved, resolved);
+		Long unchanged = fixture.createTicket();
+		Long modifiedConcurrently = fixture.createTicket();
+		long historyBefore = historySize(modifiedConcurrently);
+
+		doAnswer(invocation -> {
+			Object views = callRealMethod(ticketRepository, invocation);
+			fixture.bumpVersionInAnotherTransaction(modifiedConcurrently);
+			return views;
+		}).when(ticketRepository).findStatusByIdIn(any());
+
+		BulkStatusUpdateResponse response = ticketService.updateTicketStatusBulk(BulkStatusUpdateRequest.builder()
+				.newStatusId(resolved.getId())
+				.ticketIds(Set.of(alreadyResolved, unchanged, modifiedConcurrently, MISSING_TICKET_ID))
+				.build());
+
+		assertEquals(List.of(unchanged), response.getChanged());
+		assertEquals(List.of(alreadyResolved), response.getAlreadyInStatus());
+		assertEquals(List.of(modifiedConcurrently), response.getConflicted());
+		assertEquals(List.of(MISSING_TICKET_ID), response.getNotFound());
+
+		assertEquals(resolved.getId(), fixture.statusIdOf(unchanged));
+		assertEquals(open.getId(), fixture.statusIdOf(modifiedConcurrently));
+		assertEquals(historyBefore, historySize(modifiedConcurrently));
+		assertEquals(open.getId(), ticketService.getTicketHistory(unchanged, null, 1).getItems().get(0).getOldStatus().getId());
+	}
+
+	private long historySize(Long ticketId) {
+		return ticketService.getTicketHistory(ticketId, null, 100).getItems().size();
+	}
+
+}
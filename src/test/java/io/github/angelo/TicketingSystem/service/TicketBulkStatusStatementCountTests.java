@@ -0,0 +1,117 @@
+package io.github.angelo.TicketingSystem.service;
+
+import io.github.angelo.TicketingSystem.dto.request.BulkStatusUpdateRequest;
+import io.github.angelo.TicketingSystem.dto.response.BulkStatusUpdateResponse;
+import io.github.angelo.TicketingSystem.model.Status;
+import io.github.angelo.TicketingSystem.model.Ticket;
+import io.github.angelo.TicketingSystem.model.User;
+import io.github.angelo.TicketingSystem.repository.CategoryRepository;
+import io.github.angelo.TicketingSystem.repository.PriorityRepository;
+import io.github.angelo.TicketingSystem.repository.StatusRepository;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import io.github.angelo.TicketingSystem.repository.UserRepository;
+import io.github.angelo.TicketingSystem.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Import(JdbcStatementCounter.class)
+class TicketBulkStatusStatementCountTests {
+
+	// Três blocos de 500 no compare-and-set; 1200 / 50 batches de histórico
+	private static final int TICKETS = 1200;
+
+	@Autowired
+	private TicketService ticketService;
+
+	@Autowired
+	private TicketRepository ticketRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PriorityRepository priorityRepository;
+
+	@Autowired
+	private StatusRepository statusRepository;
+
+	@Autowired
+	private JdbcStatementCounter counter;
+
+	private final List<Ticket> tickets = new ArrayList<>();
+
+	private User admin;
+
+	@BeforeEach
+	void setUp() {
+		admin = userRepository.findByEmail("admin@ticketsystem.com").orElseThrow();
+		AuthenticatedUser principal = AuthenticatedUser.from(admin);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		// As versões mudaram no UPDATE em lote: remove pelos ids
+		ticketRepository.deleteAllById(tickets.stream().map(Ticket::getId).toList());
+		tickets.clear();
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void bulkChangeSendsOneUpdateBatchPerChunk() {
+		Status open = statusRepository.findByName("Open").orElseThrow();
+		Status resolved = statusRepository.findByName("Resolved").orElseThrow();
+		createTickets(open);
+		Set<Long> ids = new HashSet<>();
+		tickets.forEach(ticket -> ids.add(ticket.getId()));
+
+		counter.reset();
+		BulkStatusUpdateResponse response = ticketService.updateTicketStatusBulk(BulkStatusUpdateRequest.builder()
+				.newStatusId(resolved.getId())
+				.ticketIds(ids)
+				.build());
+
+		assertEquals(TICKETS, response.getChanged().size());
+		assertTrue(response.getConflicted().isEmpty());
+		assertEquals(3, counter.executions("update ticket set"));
+		assertEquals(TICKETS, counter.batchedRows("update ticket set"));
+		assertEquals(TICKETS / 50, counter.executions("insert into status_history"));
+		assertEquals(TICKETS, counter.batchedRows("insert into status_history"));
+	}
+
+	private void createTickets(Status status) {
+		var category = categoryRepository.findAll().get(0);
+		var priority = priorityRepository.findAll().get(0);
+		for (int i = 0; i < TICKETS; i++) {
+			tickets.add(Ticket.builder()
+					.title("Bulk statement count ticket " + i)
+					.description("Ticket created by the bulk status statement count test")
+					.user(admin)
+					.category(category)
+					.priority(priority)
+					.status(status)
+					.build());
+		}
+		ticketRepository.saveAll(tickets);
+	}
+
+}
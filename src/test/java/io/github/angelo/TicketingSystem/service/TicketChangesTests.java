@@ -0,0 +1,152 @@
+package io.github.angelo.TicketingSystem.service;
+
+import io.github.angelo.TicketingSystem.dto.request.TicketRequest;
+import io.github.angelo.TicketingSystem.dto.response.TicketChangesResponse;
+import io.github.angelo.TicketingSystem.dto.response.TicketSummaryResponse;
+import io.github.angelo.TicketingSystem.exception.BadRequestException;
+import io.github.angelo.TicketingSystem.model.User;
+import io.github.angelo.TicketingSystem.repository.CategoryRepository;
+import io.github.angelo.TicketingSystem.repository.PriorityRepository;
+import io.github.angelo.TicketingSystem.repository.UserRepository;
+import io.github.angelo.TicketingSystem.security.AuthenticatedUser;
+import io.github.angelo.TicketingSystem.util.ChangeWatermark;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Sem margem de segurança, para que alterações recém-confirmadas já entrem na página
+@SpringBootTest(properties = "tickets.sync.safety-lag=0s")
+class TicketChangesTests {
+
+	private static final int LIMIT = 100;
+
+	@Autowired
+	private TicketService ticketService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PriorityRepository priorityRepository;
+
+	private final List<Long> createdTickets = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		User admin = userRepository.findByEmail("admin@ticketsystem.com").orElseThrow();
+		AuthenticatedUser principal = AuthenticatedUser.from(admin);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		createdTickets.forEach(ticketService::deleteTicket);
+		createdTickets.clear();
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void changesSinceWatermarkReportUpdatesAndTombstonesOnce() throws InterruptedException {
+		Long modified = createTicket();
+		Long deleted = createTicket();
+		String watermark = catchUp();
+
+		ticketService.updateTicket(modified, ticketRequest("Modified after the watermark"), null);
+		ticketService.deleteTicket(deleted);
+		createdTickets.remove(deleted);
+
+		TicketChangesResponse changes = ticketService.getChanges(watermark, LIMIT);
+		assertFalse(changes.isResetRequired());
+		assertFalse(changes.isHasMore());
+		assertEquals(List.of(modified), ids(changes));
+		assertEquals(List.of(deleted), changes.getDeleted());
+
+		TicketChangesResponse again = ticketService.getChanges(changes.getWatermark(), LIMIT);
+		assertTrue(again.getChanged().isEmpty());
+		assertTrue(again.getDeleted().isEmpty());
+	}
+
+	@Test
+	void changesArePagedInUpdateOrder() throws InterruptedException {
+		String watermark = catchUp();
+		Long first = createTicket();
+		Long second = createTicket();
+
+		TicketChangesResponse page = ticketService.getChanges(watermark, 1);
+		assertTrue(page.isHasMore());
+		assertEquals(List.of(first), ids(page));
+
+		TicketChangesResponse next = ticketService.getChanges(page.getWatermark(), 1);
+		assertFalse(next.isHasMore());
+		assertEquals(List.of(second), ids(next));
+	}
+
+	@Test
+	void watermarkOlderThanTombstoneRetentionRequiresReset() {
+		Long ticketId = createTicket();
+		LocalDateTime expired = LocalDateTime.now().minusDays(31);
+
+		TicketChangesResponse changes = ticketService.getChanges(
+				new ChangeWatermark(expired, 0L, expired, 0L).encode(), LIMIT);
+
+		assertTrue(changes.isResetRequired());
+		assertTrue(changes.getDeleted().isEmpty());
+		assertTrue(ids(changes).contains(ticketId));
+	}
+
+	@Test
+	void malformedWatermarkOrLimitIsRejected() {
+		assertThrows(BadRequestException.class, () -> ticketService.getChanges("not-a-watermark", LIMIT));
+		assertThrows(BadRequestException.class, () -> ticketService.getChanges(null, 0));
+	}
+
+	/**
+	 * Percorre todas as páginas a partir do início e devolve a marca final. A pausa garante que
+	 * o que vier depois tenha updatedAt estritamente posterior à marca.
+	 */
+	private String catchUp() throws InterruptedException {
+		TicketChangesResponse page = ticketService.getChanges(null, LIMIT);
+		while (page.isHasMore()) {
+			page = ticketService.getChanges(page.getWatermark(), LIMIT);
+		}
+		Thread.sleep(10);
+		return page.getWatermark();
+	}
+
+	private Long createTicket() {
+		Long id = ticketService.createTicket(ticketRequest("Delta sync test ticket")).getId();
+		createdTickets.add(id);
+		return id;
+	}
+
+	private TicketRequest ticketRequest(String title) {
+		return TicketRequest.builder()
+				.title(title)
+				.description("Ticket created by the delta sync test")
+				.categoryId(categoryRepository.findAll().get(0).getId())
+				.priorityId(priorityRepository.findAll().get(0).getId())
+				.build();
+	}
+
+	private static List<Long> ids(TicketChangesResponse changes) {
+		return changes.getChanged().stream().map(TicketSummaryResponse::getId).toList();
+	}
+
+}
@@ -0,0 +1,120 @@
+package io.github.angelo.TicketingSystem.service;
+
+import io.github.angelo.TicketingSystem.dto.request.StatusUpdateRequest;
+import io.github.angelo.TicketingSystem.dto.request.TicketRequest;
+import io.github.angelo.TicketingSystem.dto.response.TicketResponse;
+import io.github.angelo.TicketingSystem.model.Status;
+import io.github.angelo.TicketingSystem.model.User;
+import io.github.angelo.TicketingSystem.repository.CategoryRepository;
+import io.github.angelo.TicketingSystem.repository.PriorityRepository;
+import io.github.angelo.TicketingSystem.repository.StatusRepository;
+import io.github.angelo.TicketingSystem.repository.UserRepository;
+import io.github.angelo.TicketingSystem.security.AuthenticatedUser;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.mockingDetails;
+
+/**
+ * Base comum dos testes de compare-and-set: autentica como admin, cria chamados pelo serviço
+ * (removidos em {@link #cleanUp()}) e simula uma requisição paralela incrementando a versão de um
+ * chamado em outra transação, já confirmada.
+ */
+@TestConfiguration
+class TicketConcurrencyFixture {
+
+	@Autowired
+	private TicketService ticketService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PriorityRepository priorityRepository;
+
+	@Autowired
+	private StatusRepository statusRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final List<Long> createdTickets = new ArrayList<>();
+
+	private User admin;
+
+	void authenticateAsAdmin() {
+		admin = userRepository.findByEmail("admin@ticketsystem.com").orElseThrow();
+		AuthenticatedUser principal = AuthenticatedUser.from(admin);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+	}
+
+	void cleanUp() {
+		createdTickets.forEach(ticketService::deleteTicket);
+		createdTickets.clear();
+		SecurityContextHolder.clearContext();
+	}
+
+	Status status(String name) {
+		return statusRepository.findByName(name).orElseThrow();
+	}
+
+	Long createTicket() {
+		Long id = ticketService.createTicket(ticketRequest("Concurrency test ticket")).getId();
+		createdTickets.add(id);
+		return id;
+	}
+
+	TicketRequest ticketRequest(String title) {
+		return TicketRequest.builder()
+				.title(title)
+				.description("Ticket created by a concurrency test")
+				.categoryId(categoryRepository.findAll().get(0).getId())
+				.priorityId(priorityRepository.findAll().get(0).getId())
+				.build();
+	}
+
+	TicketResponse changeStatus(Long ticketId, Status status) {
+		return ticketService.updateTicketStatus(StatusUpdateRequest.builder()
+				.ticketId(ticketId)
+				.newStatusId(status.getId())
+				.changedByUserId(admin.getId())
+				.build(), null);
+	}
+
+	Long statusIdOf(Long ticketId) {
+		return jdbcTemplate.queryForObject("SELECT status_id FROM ticket WHERE id = ?", Long.class, ticketId);
+	}
+
+	void bumpVersionInAnotherTransaction(Long ticketId) {
+		TransactionTemplate concurrent = new TransactionTemplate(transactionManager);
+		concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		concurrent.executeWithoutResult(status ->
+				jdbcTemplate.update("UPDATE ticket SET version = version + 1 WHERE id = ?", ticketId));
+	}
+
+	/**
+	 * O repositório é um proxy JDK de interface: o Mockito não chama o método real nele, e o spy
+	 * criado pelo Spring repassa as chamadas ao bean pela resposta padrão.
+	 */
+	static Object callRealMethod(Object spy, InvocationOnMock invocation) throws Throwable {
+		return mockingDetails(spy).getMockCreationSettings().getDefaultAnswer().answer(invocation);
+	}
+
+}
@@ -0,0 +1,83 @@
+package io.github.angelo.TicketingSystem.service;
+
+import io.github.angelo.TicketingSystem.exception.ServiceUnavailableException;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import io.github.angelo.TicketingSystem.repository.projection.TicketExportView;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Limite de exportações simultâneas: a vaga é reservada ao abrir e devolvida ao fim da escrita,
+ * mesmo quando ela falha.
+ */
+class TicketExportServiceTests {
+
+	private final TicketRepository ticketRepository = mock(TicketRepository.class);
+
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+	private final TicketExportService ticketExportService =
+			new TicketExportService(ticketRepository, JsonMapper.builder().build(), transactionManager, 1, 30);
+
+	@Test
+	void exportBeyondTheLimitIsRejectedUntilTheRunningOneFinishes() throws IOException {
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		when(ticketRepository.streamForExport()).thenReturn(Stream.of(row(1L, "Printer, 2nd \"floor\"")));
+
+		StreamingResponseBody running = ticketExportService.open(TicketExportService.Format.CSV);
+		ServiceUnavailableException rejected = assertThrows(ServiceUnavailableException.class,
+				() -> ticketExportService.open(TicketExportService.Format.CSV));
+		assertEquals(30, rejected.getRetryAfterSeconds());
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		running.writeTo(output);
+		String row = output.toString(StandardCharsets.UTF_8).lines().skip(1).findFirst().orElseThrow();
+		assertTrue(row.startsWith("1,\"Printer, 2nd \"\"floor\"\"\",Exported by the test,"), row);
+
+		ticketExportService.open(TicketExportService.Format.NDJSON);
+	}
+
+	@Test
+	void failedWriteRollsBackAndReleasesTheSlot() throws IOException {
+		SimpleTransactionStatus transaction = new SimpleTransactionStatus();
+		when(transactionManager.getTransaction(any())).thenReturn(transaction);
+		when(ticketRepository.streamForExport()).thenReturn(Stream.of(row(1L, "Disconnected")));
+		OutputStream disconnected = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("Broken pipe");
+			}
+		};
+
+		StreamingResponseBody body = ticketExportService.open(TicketExportService.Format.NDJSON);
+		assertThrows(IOException.class, () -> body.writeTo(disconnected));
+
+		verify(transactionManager).rollback(transaction);
+		ticketExportService.open(TicketExportService.Format.NDJSON);
+	}
+
+	private static TicketExportView row(Long id, String title) {
+		LocalDateTime now = LocalDateTime.now();
+		return new TicketExportView(id, title, "Exported by the test", now, now,
+				1L, "admin@ticketsystem.com", null, null, "Hardware", "Low", "Open");
+	}
+
+}
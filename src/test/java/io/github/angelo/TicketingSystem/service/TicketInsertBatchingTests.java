@@ -0,0 +1,133 @@
+package io.github.angelo.TicketingSystem.service;
+
+import io.github.angelo.TicketingSystem.dto.request.BulkTicketRequest;
+import io.github.angelo.TicketingSystem.dto.request.TicketRequest;
+import io.github.angelo.TicketingSystem.dto.response.BulkTicketResponse;
+import io.github.angelo.TicketingSystem.dto.response.BulkItemResult;
+import io.github.angelo.TicketingSystem.model.IdAllocation;
+import io.github.angelo.TicketingSystem.model.Ticket;
+import io.github.angelo.TicketingSystem.model.User;
+import io.github.angelo.TicketingSystem.repository.CategoryRepository;
+import io.github.angelo.TicketingSystem.repository.PriorityRepository;
+import io.github.angelo.TicketingSystem.repository.StatusRepository;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import io.github.angelo.TicketingSystem.repository.UserRepository;
+import io.github.angelo.TicketingSystem.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Import(JdbcStatementCounter.class)
+class TicketInsertBatchingTests {
+
+	// Dois lotes JDBC cheios e um parcial
+	private static final int TICKETS = 120;
+
+	private static final int BATCHES = 3;
+
+	@Autowired
+	private TicketService ticketService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PriorityRepository priorityRepository;
+
+	@Autowired
+	private TicketRepository ticketRepository;
+
+	@Autowired
+	private StatusRepository statusRepository;
+
+	@Autowired
+	private JdbcStatementCounter counter;
+
+	private final List<Long> createdTickets = new ArrayList<>();
+
+	private User admin;
+
+	@BeforeEach
+	void setUp() {
+		admin = userRepository.findByEmail("admin@ticketsystem.com").orElseThrow();
+		AuthenticatedUser principal = AuthenticatedUser.from(admin);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		createdTickets.forEach(ticketService::deleteTicket);
+		createdTickets.clear();
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void bulkCreationBatchesTicketAndHistoryInserts() {
+		List<TicketRequest> items = new ArrayList<>(TICKETS);
+		for (int i = 0; i < TICKETS; i++) {
+			items.add(TicketRequest.builder()
+					.title("Bulk insert ticket " + i)
+					.description("Ticket created by the insert batching test")
+					.categoryId(categoryRepository.findAll().get(0).getId())
+					.priorityId(priorityRepository.findAll().get(0).getId())
+					.build());
+		}
+
+		counter.reset();
+		BulkTicketResponse response = ticketService.createTicketsBulk(BulkTicketRequest.builder().tickets(items).build());
+		response.getResults().stream().map(BulkItemResult::getTicketId).forEach(createdTickets::add);
+
+		assertEquals(TICKETS, response.getCreated());
+		assertEquals(BATCHES, counter.executions("insert into ticket ("));
+		assertEquals(TICKETS, counter.batchedRows("insert into ticket ("));
+		assertEquals(BATCHES, counter.executions("insert into status_history ("));
+		assertEquals(TICKETS, counter.batchedRows("insert into status_history ("));
+		assertSequenceCallsPerIdBlock();
+	}
+
+	@Test
+	void savingManyEntitiesBatchesInsertsAndReservesIdsInBlocks() {
+		List<Ticket> tickets = new ArrayList<>(TICKETS);
+		for (int i = 0; i < TICKETS; i++) {
+			tickets.add(Ticket.builder()
+					.title("Repository insert ticket " + i)
+					.description("Ticket created by the insert batching test")
+					.user(admin)
+					.category(categoryRepository.findAll().get(0))
+					.priority(priorityRepository.findAll().get(0))
+					.status(statusRepository.findByName("Open").orElseThrow())
+					.build());
+		}
+
+		counter.reset();
+		ticketRepository.saveAll(tickets).forEach(ticket -> createdTickets.add(ticket.getId()));
+
+		assertEquals(BATCHES, counter.executions("insert into ticket ("));
+		assertEquals(TICKETS, counter.batchedRows("insert into ticket ("));
+		assertSequenceCallsPerIdBlock();
+	}
+
+	// pooled-lo: uma ida à sequence por bloco de IDs (o primeiro bloco pode vir de antes)
+	private void assertSequenceCallsPerIdBlock() {
+		int sequenceCalls = counter.executions("select next value for ticket_seq");
+		assertTrue(sequenceCalls >= 1 && sequenceCalls <= (TICKETS + IdAllocation.TICKET - 1) / IdAllocation.TICKET,
+				"sequence calls: " + sequenceCalls);
+	}
+
+}
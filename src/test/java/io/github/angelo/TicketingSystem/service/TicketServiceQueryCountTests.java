@@ -0,0 +1,142 @@
+package io.github.angelo.TicketingSystem.service;
+
+import io.github.angelo.TicketingSystem.dto.response.CursorPageResponse;
+import io.github.angelo.TicketingSystem.dto.response.TicketSummaryResponse;
+import io.github.angelo.TicketingSystem.model.Category;
+import io.github.angelo.TicketingSystem.model.Priority;
+import io.github.angelo.TicketingSystem.model.Status;
+import io.github.angelo.TicketingSystem.model.Ticket;
+import io.github.angelo.TicketingSystem.model.User;
+import io.github.angelo.TicketingSystem.model.enums.UserRole;
+import io.github.angelo.TicketingSystem.repository.CategoryRepository;
+import io.github.angelo.TicketingSystem.repository.PriorityRepository;
+import io.github.angelo.TicketingSystem.repository.StatusRepository;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import io.github.angelo.TicketingSystem.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TicketServiceQueryCountTests {
+
+	// Tamanhos crescentes da massa própria, todos dentro de uma página
+	private static final int[] FIXTURE_SIZES = {1, 10, 40, 100};
+
+	private static final int PAGE_SIZE = 100;
+
+	@Autowired
+	private TicketService ticketService;
+
+	@Autowired
+	private TicketRepository ticketRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PriorityRepository priorityRepository;
+
+	@Autowired
+	private StatusRepository statusRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private final List<Ticket> createdTickets = new ArrayList<>();
+
+	private Statistics statistics;
+
+	private User owner;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		// Dono exclusivo: as listagens por usuário devolvem só o que o teste criou
+		owner = userRepository.save(User.builder()
+				.name("Query count owner")
+				.email("query-count-owner@ticketsystem.com")
+				.password("not-used")
+				.role(UserRole.USER)
+				.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		ticketRepository.deleteAll(createdTickets);
+		createdTickets.clear();
+		userRepository.delete(owner);
+	}
+
+	@Test
+	void listingRunsOneStatementRegardlessOfTicketCount() {
+		for (int size : FIXTURE_SIZES) {
+			createTickets(size - createdTickets.size());
+
+			AtomicReference<CursorPageResponse<TicketSummaryResponse>> page = new AtomicReference<>();
+			assertEquals(1, countStatements(() -> page.set(ticketService.getTicketsByUser(owner.getId(), null, PAGE_SIZE))),
+					size + " tickets");
+			assertEquals(size, page.get().getItems().size());
+
+			// A listagem geral cresce junto; o número de comandos não
+			assertEquals(1, countStatements(() -> page.set(ticketService.getAllTickets(null, PAGE_SIZE))),
+					size + " tickets");
+			assertEquals(Math.min(PAGE_SIZE, ticketRepository.count()), page.get().getItems().size());
+		}
+	}
+
+	@Test
+	void singleTicketRunsOneStatement() {
+		createTickets(1);
+		Long id = createdTickets.get(0).getId();
+		assertEquals(1, countStatements(() -> ticketService.getTicketById(id)));
+	}
+
+	private long countStatements(Runnable action) {
+		statistics.clear();
+		action.run();
+		return statistics.getPrepareStatementCount();
+	}
+
+	/**
+	 * Responsáveis, categorias, prioridades e status variam de um chamado para o outro, para que
+	 * um carregamento por associação apareça como comandos extras.
+	 */
+	private void createTickets(int count) {
+		List<User> users = userRepository.findAll();
+		List<Category> categories = categoryRepository.findAll();
+		List<Priority> priorities = priorityRepository.findAll();
+		List<Status> statuses = statusRepository.findAll();
+
+		List<Ticket> tickets = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int n = createdTickets.size() + i;
+			tickets.add(Ticket.builder()
+					.title("Query count ticket " + n)
+					.description("Ticket created by the query count regression test")
+					.user(owner)
+					// A cada quatro, um sem responsável
+					.assignedTo(n % 4 == 3 ? null : users.get(n % users.size()))
+					.category(categories.get(n % categories.size()))
+					.priority(priorities.get(n % priorities.size()))
+					.status(statuses.get(n % statuses.size()))
+					.build());
+		}
+		createdTickets.addAll(ticketRepository.saveAll(tickets));
+	}
+
+}
@@ -0,0 +1,214 @@
+package io.github.angelo.TicketingSystem.service;
+
+import io.github.angelo.TicketingSystem.dto.request.StatusUpdateRequest;
+import io.github.angelo.TicketingSystem.dto.request.TicketRequest;
+import io.github.angelo.TicketingSystem.dto.request.UserRequest;
+import io.github.angelo.TicketingSystem.dto.response.StatCountResponse;
+import io.github.angelo.TicketingSystem.dto.response.TicketStatsResponse;
+import io.github.angelo.TicketingSystem.model.Status;
+import io.github.angelo.TicketingSystem.model.User;
+import io.github.angelo.TicketingSystem.repository.CategoryRepository;
+import io.github.angelo.TicketingSystem.repository.PriorityRepository;
+import io.github.angelo.TicketingSystem.repository.StatusRepository;
+import io.github.angelo.TicketingSystem.repository.UserRepository;
+import io.github.angelo.TicketingSystem.security.AuthenticatedUser;
+import io.github.angelo.TicketingSystem.stats.TicketCounters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Contadores de /api/tickets/stats acompanhando as escritas pelos eventos, reconciliação
+ * corrigindo desvios e nomes de responsáveis vindos da memória.
+ */
+@SpringBootTest
+@Import(JdbcStatementCounter.class)
+class TicketStatsTests {
+
+	@Autowired
+	private TicketStatsService ticketStatsService;
+
+	@Autowired
+	private TicketCounters ticketCounters;
+
+	@Autowired
+	private TicketService ticketService;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private StatusRepository statusRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PriorityRepository priorityRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private JdbcStatementCounter statementCounter;
+
+	private final List<Long> createdTickets = new ArrayList<>();
+
+	private User admin;
+
+	private User technician;
+
+	private Long categoryId;
+
+	private Long priorityId;
+
+	@BeforeEach
+	void setUp() {
+		admin = userRepository.findByEmail("admin@ticketsystem.com").orElseThrow();
+		technician = userRepository.findByEmail("tech@ticketsystem.com").orElseThrow();
+		categoryId = categoryRepository.findAll().get(0).getId();
+		priorityId = priorityRepository.findAll().get(0).getId();
+		AuthenticatedUser principal = AuthenticatedUser.from(admin);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		createdTickets.forEach(ticketService::deleteTicket);
+		createdTickets.clear();
+		// Devolve aos contadores o estado do banco, caso um teste tenha gravado por fora dos eventos
+		ticketCounters.reconcile();
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void countersFollowCreateAssignStatusChangeAndDelete() {
+		Long open = statusRepository.findByName("Open").orElseThrow().getId();
+		Long resolved = statusRepository.findByName("Resolved").orElseThrow().getId();
+		TicketStatsResponse before = ticketStatsService.getStats();
+
+		Long ticketId = ticketService.createTicket(ticketRequest(null)).getId();
+		TicketStatsResponse created = ticketStatsService.getStats();
+		assertEquals(before.getTotal() + 1, created.getTotal());
+		assertEquals(before.getOpen() + 1, created.getOpen());
+		assertEquals(before.getOpenUnassigned() + 1, created.getOpenUnassigned());
+		assertEquals(count(before.getByStatus(), open) + 1, count(created.getByStatus(), open));
+		assertEquals(count(before.getOpenByPriority(), priorityId) + 1, count(created.getOpenByPriority(), priorityId));
+		assertEquals(count(before.getOpenByCategory(), categoryId) + 1, count(created.getOpenByCategory(), categoryId));
+
+		ticketService.updateTicket(ticketId, ticketRequest(technician.getId()), null);
+		TicketStatsResponse assigned = ticketStatsService.getStats();
+		assertEquals(before.getOpenUnassigned(), assigned.getOpenUnassigned());
+		assertEquals(count(before.getOpenByAssignee(), technician.getId()) + 1, count(assigned.getOpenByAssignee(), technician.getId()));
+
+		ticketService.updateTicketStatus(StatusUpdateRequest.builder()
+				.ticketId(ticketId)
+				.newStatusId(resolved)
+				.changedByUserId(admin.getId())
+				.build(), null);
+		TicketStatsResponse closed = ticketStatsService.getStats();
+		assertEquals(before.getTotal() + 1, closed.getTotal());
+		assertEquals(before.getOpen(), closed.getOpen());
+		assertEquals(count(before.getByStatus(), open), count(closed.getByStatus(), open));
+		assertEquals(count(before.getByStatus(), resolved) + 1, count(closed.getByStatus(), resolved));
+		assertEquals(count(before.getOpenByAssignee(), technician.getId()), count(closed.getOpenByAssignee(), technician.getId()));
+		assertEquals(count(before.getOpenByPriority(), priorityId), count(closed.getOpenByPriority(), priorityId));
+
+		ticketService.deleteTicket(ticketId);
+		createdTickets.remove(ticketId);
+		assertEquals(before, ticketStatsService.getStats());
+	}
+
+	@Test
+	void reconcileCorrectsCountersThatDriftedFromTheDatabase() {
+		Long ticketId = ticketService.createTicket(ticketRequest(null)).getId();
+		Status resolved = statusRepository.findByName("Resolved").orElseThrow();
+		// Escrita fora do serviço: nenhum evento, os contadores ficam desatualizados
+		jdbcTemplate.update("UPDATE ticket SET status_id = ? WHERE id = ?", resolved.getId(), ticketId);
+		assertNotEquals(countsByStatusInDatabase(), countsByStatus(ticketStatsService.getStats()));
+
+		ticketCounters.reconcile();
+
+		TicketStatsResponse stats = ticketStatsService.getStats();
+		assertEquals(countsByStatusInDatabase(), countsByStatus(stats));
+		assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ticket", Long.class), stats.getTotal());
+	}
+
+	@Test
+	void statsAreServedFromMemoryWithCurrentAssigneeNames() {
+		Long ticketId = ticketService.createTicket(ticketRequest(technician.getId())).getId();
+
+		statementCounter.reset();
+		TicketStatsResponse stats = ticketStatsService.getStats();
+		assertEquals(0, statementCounter.executions(""));
+		assertEquals(technician.getName(), name(stats.getOpenByAssignee(), technician.getId()));
+
+		renameTechnician("Renamed Technician");
+		try {
+			assertEquals("Renamed Technician", name(ticketStatsService.getStats().getOpenByAssignee(), technician.getId()));
+		} finally {
+			renameTechnician(technician.getName());
+		}
+		createdTickets.add(ticketId);
+	}
+
+	private void renameTechnician(String name) {
+		userService.updateUser(technician.getId(), UserRequest.builder()
+				.name(name)
+				.email(technician.getEmail())
+				.role(technician.getRole())
+				.build());
+	}
+
+	private Map<Long, Long> countsByStatusInDatabase() {
+		Map<Long, Long> counts = new HashMap<>();
+		jdbcTemplate.query("SELECT status_id, COUNT(*) FROM ticket GROUP BY status_id",
+				rs -> {
+					counts.put(rs.getLong(1), rs.getLong(2));
+				});
+		return counts;
+	}
+
+	private static Map<Long, Long> countsByStatus(TicketStatsResponse stats) {
+		Map<Long, Long> counts = new HashMap<>();
+		stats.getByStatus().forEach(count -> counts.put(count.getId(), count.getCount()));
+		return counts;
+	}
+
+	private static long count(List<StatCountResponse> counts, Long id) {
+		return counts.stream().filter(count -> count.getId().equals(id)).mapToLong(StatCountResponse::getCount).sum();
+	}
+
+	private static String name(List<StatCountResponse> counts, Long id) {
+		return counts.stream().filter(count -> count.getId().equals(id)).findFirst().orElseThrow().getName();
+	}
+
+	private TicketRequest ticketRequest(Long assignedToId) {
+		return TicketRequest.builder()
+				.title("Stats test ticket")
+				.description("Ticket created by the stats test")
+				.categoryId(categoryId)
+				.priorityId(priorityId)
+				.assignedToId(assignedToId)
+				.build();
+	}
+
+}
@@ -0,0 +1,110 @@
+package io.github.angelo.TicketingSystem.service;
+
+import io.github.angelo.TicketingSystem.dto.response.TicketResponse;
+import io.github.angelo.TicketingSystem.exception.ConflictException;
+import io.github.angelo.TicketingSystem.model.Status;
+import io.github.angelo.TicketingSystem.repository.TicketRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import static io.github.angelo.TicketingSystem.service.TicketConcurrencyFixture.callRealMethod;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Escritas concorrentes simuladas: logo depois que o serviço lê o chamado, outra transação
+ * já confirmada incrementa a versão da linha, como faria uma requisição paralela.
+ */
+@SpringBootTest
+@Import(TicketConcurrencyFixture.class)
+class TicketStatusConcurrencyTests {
+
+	@Autowired
+	private TicketService ticketService;
+
+	@MockitoSpyBean
+	private TicketRepository ticketRepository;
+
+	@Autowired
+	private TicketConcurrencyFixture fixture;
+
+	private Status open;
+
+	private Status resolved;
+
+	@BeforeEach
+	void setUp() {
+		fixture.authenticateAsAdmin();
+		open = fixture.status("Open");
+		resolved = fixture.status("Resolved");
+	}
+
+	@AfterEach
+	void tearDown() {
+		fixture.cleanUp();
+	}
+
+	@Test
+	void statusChangeGivesUpWith409WhenEveryAttemptLosesTheRace() {
+		Long ticketId = fixture.createTicket();
+		Long versionBefore = ticketService.getTicketVersion(ticketId);
+
+		doAnswer(invocation -> {
+			Object ticket = callRealMethod(ticketRepository, invocation);
+			fixture.bumpVersionInAnotherTransaction(ticketId);
+			return ticket;
+		}).when(ticketRepository).findWithDetailsById(eq(ticketId));
+
+		assertThrows(ConflictException.class, () -> fixture.changeStatus(ticketId, resolved));
+
+		assertEquals(open.getId(), fixture.statusIdOf(ticketId));
+		// Dez tentativas, dez escritas concorrentes; nenhuma do serviço
+		assertEquals(versionBefore + 10, ticketService.getTicketVersion(ticketId));
+	}
+
+	@Test
+	void statusChangeRetriesOnTheNewVersionAfterOneLostRace() {
+		Long ticketId = fixture.createTicket();
+		boolean[] raced = {false};
+
+		doAnswer(invocation -> {
+			Object ticket = callRealMethod(ticketRepository, invocation);
+			if (!raced[0]) {
+				raced[0] = true;
+				fixture.bumpVersionInAnotherTransaction(ticketId);
+			}
+			return ticket;
+		}).when(ticketRepository).findWithDetailsById(eq(ticketId));
+
+		Long versionBefore = ticketService.getTicketVersion(ticketId);
+		TicketResponse response = fixture.changeStatus(ticketId, resolved);
+		assertEquals(resolved.getId(), response.getStatus().getId());
+		// A resposta traz a versão gravada pelo compare-and-set, depois da escrita concorrente
+		assertEquals(versionBefore + 2, response.getVersion());
+		assertEquals(versionBefore + 2, ticketService.getTicketVersion(ticketId));
+		assertEquals(open.getId(), ticketService.getTicketHistory(ticketId, null, 1).getItems().get(0).getOldStatus().getId());
+	}
+
+	@Test
+	void updateOfAConcurrentlyModifiedTicketFailsWithOptimisticLock() {
+		Long ticketId = fixture.createTicket();
+
+		doAnswer(invocation -> {
+			Object ticket = callRealMethod(ticketRepository, invocation);
+			fixture.bumpVersionInAnotherTransaction(ticketId);
+			return ticket;
+		}).when(ticketRepository).findWithDetailsById(eq(ticketId));
+
+		assertThrows(ObjectOptimisticLockingFailureException.class,
+				() -> ticketService.updateTicket(ticketId, fixture.ticketRequest("Lost update title"), null));
+	}
+
+}
@@ -0,0 +1,212 @@
+package io.github.angelo.TicketingSystem.service;
+
+import io.github.angelo.TicketingSystem.dto.request.StatusUpdateRequest;
+import io.github.angelo.TicketingSystem.dto.request.TicketRequest;
+import io.github.angelo.TicketingSystem.exception.ConflictException;
+import io.github.angelo.TicketingSystem.model.Status;
+import io.github.angelo.TicketingSystem.model.StatusHistory;
+import io.github.angelo.TicketingSystem.model.Ticket;
+import io.github.angelo.TicketingSystem.model.User;
+import io.github.angelo.TicketingSystem.repository.CategoryRepository;
+import io.github.angelo.TicketingSystem.repository.PriorityRepository;
+import io.github.angelo.TicketingSystem.repository.StatusHistoryRepository;
+import io.github.angelo.TicketingSystem.repository.StatusRepository;
+import io.github.angelo.TicketingSystem.repository.UserRepository;
+import io.github.angelo.TicketingSystem.security.AuthenticatedUser;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Transições de status concorrentes sobre o mesmo chamado, pelo compare-and-set do serviço e
+ * por um caminho com lock pessimista (SELECT ... FOR UPDATE, como o @Lock(PESSIMISTIC_WRITE)).
+ * Em ambos, nenhuma transição se perde: o histórico forma uma cadeia contínua e a versão final
+ * é igual ao número de transições bem-sucedidas.
+ */
+@SpringBootTest
+class TicketStatusStressTests {
+
+	private static final int THREADS = 8;
+
+	private static final int TRANSITIONS_PER_THREAD = 20;
+
+	@Autowired
+	private TicketService ticketService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PriorityRepository priorityRepository;
+
+	@Autowired
+	private StatusRepository statusRepository;
+
+	@Autowired
+	private StatusHistoryRepository statusHistoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private User admin;
+
+	private List<Status> statuses;
+
+	private Long ticketId;
+
+	@BeforeEach
+	void setUp() {
+		admin = userRepository.findByEmail("admin@ticketsystem.com").orElseThrow();
+		authenticate();
+		statuses = statusRepository.findAll();
+		ticketId = ticketService.createTicket(TicketRequest.builder()
+				.title("Status stress ticket")
+				.description("Ticket created by the status stress test")
+				.categoryId(categoryRepository.findAll().get(0).getId())
+				.priorityId(priorityRepository.findAll().get(0).getId())
+				.build()).getId();
+	}
+
+	@AfterEach
+	void tearDown() {
+		authenticate();
+		ticketService.deleteTicket(ticketId);
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void compareAndSetTransitionsLoseNoUpdates() throws Exception {
+		int changed = runConcurrently(target -> {
+			authenticate();
+			try {
+				ticketService.updateTicketStatus(StatusUpdateRequest.builder()
+						.ticketId(ticketId)
+						.newStatusId(target.getId())
+						.changedByUserId(admin.getId())
+						.build(), null);
+				return true;
+			} catch (ConflictException e) {
+				// Perdeu a disputa em todas as tentativas: nada foi gravado
+				return false;
+			}
+		});
+
+		assertTrue(changed > 0);
+		assertConsistent(changed);
+	}
+
+	@Test
+	void pessimisticTransitionsLoseNoUpdates() throws Exception {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		int changed = runConcurrently(target -> Boolean.TRUE.equals(transaction.execute(status -> {
+			Ticket ticket = entityManager.find(Ticket.class, ticketId, LockModeType.PESSIMISTIC_WRITE);
+			Status oldStatus = ticket.getStatus();
+			// Sem mudança a entidade não fica suja: não há UPDATE nem incremento de versão
+			if (oldStatus.getId().equals(target.getId())) {
+				return false;
+			}
+			ticket.setStatus(target);
+			statusHistoryRepository.save(StatusHistory.builder()
+					.ticket(ticket)
+					.oldStatus(oldStatus)
+					.newStatus(target)
+					.changedBy(entityManager.getReference(User.class, admin.getId()))
+					.build());
+			return true;
+		})));
+
+		assertTrue(changed > 0);
+		assertConsistent(changed);
+	}
+
+	@FunctionalInterface
+	private interface Transition {
+		boolean apply(Status target) throws Exception;
+	}
+
+	private int runConcurrently(Transition transition) throws Exception {
+		AtomicInteger changed = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<Void>> futures = new ArrayList<>(THREADS);
+			for (int t = 0; t < THREADS; t++) {
+				int thread = t;
+				Callable<Void> task = () -> {
+					for (int i = 0; i < TRANSITIONS_PER_THREAD; i++) {
+						if (transition.apply(statuses.get((thread + i) % statuses.size()))) {
+							changed.incrementAndGet();
+						}
+					}
+					return null;
+				};
+				futures.add(executor.submit(task));
+			}
+			for (Future<Void> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		return changed.get();
+	}
+
+	/**
+	 * As escritas no mesmo chamado são serializadas pelo lock da linha, e o histórico de cada uma
+	 * recebe o ID depois que a anterior confirmou: na ordem dos IDs, cada oldStatus é o newStatus
+	 * do registro anterior.
+	 */
+	private void assertConsistent(int changed) {
+		List<Map<String, Object>> history = jdbcTemplate.queryForList(
+				"SELECT old_status_id, new_status_id FROM status_history WHERE ticket_id = ? ORDER BY id", ticketId);
+		assertEquals(changed + 1, history.size());
+		assertEquals(null, history.get(0).get("OLD_STATUS_ID"));
+		for (int i = 1; i < history.size(); i++) {
+			assertTrue(Objects.equals(history.get(i - 1).get("NEW_STATUS_ID"), history.get(i).get("OLD_STATUS_ID")),
+					"history entry " + i + " does not continue from the previous one");
+		}
+
+		Map<String, Object> ticket = jdbcTemplate.queryForMap("SELECT status_id, version FROM ticket WHERE id = ?", ticketId);
+		assertEquals(history.get(history.size() - 1).get("NEW_STATUS_ID"), ticket.get("STATUS_ID"));
+		assertEquals((long) changed, ((Number) ticket.get("VERSION")).longValue());
+	}
+
+	// Cada thread precisa do próprio SecurityContext
+	private void authenticate() {
+		AuthenticatedUser principal = AuthenticatedUser.from(admin);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+	}
+
+}
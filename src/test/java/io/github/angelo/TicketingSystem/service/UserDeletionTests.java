@@ -0,0 +1,137 @@
+package io.github.angelo.TicketingSystem.service;
+
+import io.github.angelo.TicketingSystem.dto.request.CommentRequest;
+import io.github.angelo.TicketingSystem.dto.request.StatusUpdateRequest;
+import io.github.angelo.TicketingSystem.dto.request.TicketRequest;
+import io.github.angelo.TicketingSystem.dto.request.UserRequest;
+import io.github.angelo.TicketingSystem.dto.response.CommentResponse;
+import io.github.angelo.TicketingSystem.dto.response.StatusHistoryResponse;
+import io.github.angelo.TicketingSystem.exception.ConflictException;
+import io.github.angelo.TicketingSystem.model.Status;
+import io.github.angelo.TicketingSystem.model.User;
+import io.github.angelo.TicketingSystem.model.enums.UserRole;
+import io.github.angelo.TicketingSystem.repository.CategoryRepository;
+import io.github.angelo.TicketingSystem.repository.PriorityRepository;
+import io.github.angelo.TicketingSystem.repository.StatusRepository;
+import io.github.angelo.TicketingSystem.repository.UserRepository;
+import io.github.angelo.TicketingSystem.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class UserDeletionTests {
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private TicketService ticketService;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private PriorityRepository priorityRepository;
+
+	@Autowired
+	private StatusRepository statusRepository;
+
+	private Long adminId;
+
+	private Long userId;
+
+	private Long ticketId;
+
+	@BeforeEach
+	void setUp() {
+		User admin = userRepository.findByEmail("admin@ticketsystem.com").orElseThrow();
+		adminId = admin.getId();
+		AuthenticatedUser principal = AuthenticatedUser.from(admin);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+		userId = userService.createUser(UserRequest.builder()
+				.name("Deletion test user")
+				.email("deletion-test@ticketsystem.com")
+				.password("secret123")
+				.role(UserRole.TECHNICIAN)
+				.build()).getId();
+		ticketId = ticketService.createTicket(TicketRequest.builder()
+				.title("User deletion ticket")
+				.description("Ticket created by the user deletion test")
+				.categoryId(categoryRepository.findAll().get(0).getId())
+				.priorityId(priorityRepository.findAll().get(0).getId())
+				.build()).getId();
+	}
+
+	@AfterEach
+	void tearDown() {
+		ticketService.deleteTicket(ticketId);
+		if (userRepository.existsById(userId)) {
+			userService.deleteUser(userId);
+		}
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void deletingAUserKeepsTheirCommentsWithoutAuthor() {
+		Long commentId = commentService.createComment(CommentRequest.builder()
+				.ticketId(ticketId)
+				.userId(userId)
+				.message("Comment by the user under deletion")
+				.build()).getId();
+
+		userService.deleteUser(userId);
+
+		assertFalse(userRepository.existsById(userId));
+		CommentResponse comment = commentService.getCommentById(commentId);
+		assertEquals("Comment by the user under deletion", comment.getMessage());
+		assertNull(comment.getUser());
+		assertEquals(1, commentService.getCommentsByTicket(ticketId).size());
+	}
+
+	@Test
+	void deletingAUserKeepsTheirStatusChangesWithoutAuthor() {
+		Status inProgress = statusRepository.findByName("In Progress").orElseThrow();
+		ticketService.updateTicketStatus(StatusUpdateRequest.builder()
+				.ticketId(ticketId)
+				.newStatusId(inProgress.getId())
+				.changedByUserId(userId)
+				.build(), null);
+
+		userService.deleteUser(userId);
+
+		assertFalse(userRepository.existsById(userId));
+		// A página traz também a criação do chamado; a transição anônima não é descartada pelo JOIN
+		List<StatusHistoryResponse> history = ticketService.getTicketHistory(ticketId, null, 10).getItems();
+		assertEquals(2, history.size());
+		assertEquals(inProgress.getId(), history.get(0).getNewStatus().getId());
+		assertNull(history.get(0).getChangedBy());
+	}
+
+	@Test
+	void userWhoCreatedTicketsIsNotDeleted() {
+		assertThrows(ConflictException.class, () -> userService.deleteUser(adminId));
+		assertTrue(userRepository.existsById(adminId));
+	}
+
+}
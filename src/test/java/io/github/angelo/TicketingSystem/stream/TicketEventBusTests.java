@@ -0,0 +1,230 @@
+package io.github.angelo.TicketingSystem.stream;
+
+import io.github.angelo.TicketingSystem.dto.response.TicketStreamEventResponse;
+import io.github.angelo.TicketingSystem.event.TicketEvent;
+import io.github.angelo.TicketingSystem.event.TicketSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Filtro, replay por Last-Event-ID, RESYNC e descarte de assinante lento, direto no barramento,
+ * sem conexão HTTP: os emitters gravam o que receberiam.
+ */
+class TicketEventBusTests {
+
+	private static final long WAIT_SECONDS = 5;
+
+	private static final TicketEventBus.Filter EVERYTHING = new TicketEventBus.Filter(null, null, null);
+
+	private TicketEventBus bus;
+
+	@AfterEach
+	void tearDown() {
+		if (bus != null) {
+			bus.shutdown();
+		}
+	}
+
+	@Test
+	void filterMatchesTheTicketBeforeOrAfterTheChange() throws Exception {
+		bus = new TicketEventBus(100, 16, 60_000, 2);
+		RecordingEmitter open = subscribe(new TicketEventBus.Filter(null, 1L, null), null);
+
+		publish(1L, TicketEvent.Type.STATUS_CHANGED, status(1L), status(2L));
+		publish(2L, TicketEvent.Type.STATUS_CHANGED, status(2L), status(1L));
+		publish(3L, TicketEvent.Type.STATUS_CHANGED, status(2L), status(3L));
+		publish(4L, TicketEvent.Type.CREATED, null, status(1L));
+		publish(5L, TicketEvent.Type.DELETED, status(3L), null);
+		publish(6L, TicketEvent.Type.DELETED, status(1L), null);
+		RecordingEmitter everything = subscribe(EVERYTHING, null);
+		publish(7L, TicketEvent.Type.CREATED, null, status(3L));
+
+		assertEquals(List.of(1L, 2L, 4L, 6L), ticketIds(open.take(4)));
+		// O corpo traz o estado atual, mesmo já fora do filtro
+		assertEquals(List.of(7L), ticketIds(everything.take(1)));
+		assertNull(open.poll());
+	}
+
+	@Test
+	void reconnectingWithLastEventIdReplaysWhatWasMissed() throws Exception {
+		bus = new TicketEventBus(100, 16, 60_000, 2);
+		RecordingEmitter watcher = subscribe(EVERYTHING, null);
+		for (long ticketId = 1; ticketId <= 4; ticketId++) {
+			publish(ticketId, TicketEvent.Type.UPDATED, status(1L), status(1L));
+		}
+		List<Sent> seen = watcher.take(4);
+
+		RecordingEmitter reconnected = subscribe(EVERYTHING, String.valueOf(seen.get(1).event().getId()));
+		publish(5L, TicketEvent.Type.UPDATED, status(1L), status(1L));
+
+		List<Sent> received = reconnected.take(3);
+		assertEquals(List.of(3L, 4L, 5L), ticketIds(received));
+		assertEquals(List.of(seen.get(2).event().getId(), seen.get(3).event().getId(), seen.get(3).event().getId() + 1),
+				received.stream().map(sent -> sent.event().getId()).toList());
+
+		// Já em dia: nada a repetir e nenhum RESYNC
+		RecordingEmitter upToDate = subscribe(EVERYTHING, String.valueOf(received.get(2).event().getId()));
+		assertNull(upToDate.poll());
+	}
+
+	@Test
+	void lastEventIdNoLongerBufferedTriggersResync() throws Exception {
+		bus = new TicketEventBus(3, 16, 60_000, 2);
+		RecordingEmitter watcher = subscribe(EVERYTHING, null);
+		for (long ticketId = 1; ticketId <= 5; ticketId++) {
+			publish(ticketId, TicketEvent.Type.UPDATED, status(1L), status(1L));
+		}
+		List<Sent> seen = watcher.take(5);
+
+		// Os eventos 2 e 3 já saíram do buffer de três
+		RecordingEmitter agedOut = subscribe(EVERYTHING, String.valueOf(seen.get(0).event().getId()));
+		assertEquals("RESYNC", agedOut.take(1).get(0).name());
+		assertNull(agedOut.poll());
+
+		// O evento seguinte ao último entregue ainda está no buffer: replay normal
+		RecordingEmitter stillBuffered = subscribe(EVERYTHING, String.valueOf(seen.get(1).event().getId()));
+		assertEquals(List.of(3L, 4L, 5L), ticketIds(stillBuffered.take(3)));
+
+		for (String lastEventId : List.of("not-a-number", "1", String.valueOf(seen.get(4).event().getId() + 10))) {
+			RecordingEmitter unknown = subscribe(EVERYTHING, lastEventId);
+			assertEquals("RESYNC", unknown.take(1).get(0).name(), lastEventId);
+		}
+	}
+
+	@Test
+	void subscriberThatFallsBehindIsDisconnected() throws Exception {
+		bus = new TicketEventBus(100, 2, 60_000, 2);
+		RecordingEmitter stuck = new RecordingEmitter(new CountDownLatch(1));
+		bus.subscribe(EVERYTHING, null, stuck);
+		RecordingEmitter healthy = subscribe(EVERYTHING, null);
+
+		// O primeiro envio prende a thread; os próximos enchem a fila de dois e o seguinte transborda.
+		// O assinante saudável recebe cada evento antes do próximo, para não transbordar também
+		publish(1L, TicketEvent.Type.UPDATED, status(1L), status(1L));
+		assertTrue(stuck.sending.await(WAIT_SECONDS, TimeUnit.SECONDS));
+		assertEquals(List.of(1L), ticketIds(healthy.take(1)));
+		for (long ticketId = 2; ticketId <= 4; ticketId++) {
+			publish(ticketId, TicketEvent.Type.UPDATED, status(1L), status(1L));
+			assertEquals(List.of(ticketId), ticketIds(healthy.take(1)));
+		}
+
+		assertTrue(stuck.completed.await(WAIT_SECONDS, TimeUnit.SECONDS));
+
+		stuck.release.countDown();
+		publish(5L, TicketEvent.Type.UPDATED, status(1L), status(1L));
+		assertEquals(List.of(5L), ticketIds(healthy.take(1)));
+		// Só o envio que já estava em curso chega; o resto foi descartado com a conexão
+		assertEquals(List.of(1L), ticketIds(stuck.take(1)));
+		assertNull(stuck.poll());
+	}
+
+	private RecordingEmitter subscribe(TicketEventBus.Filter filter, String lastEventId) {
+		RecordingEmitter emitter = new RecordingEmitter(null);
+		bus.subscribe(filter, lastEventId, emitter);
+		return emitter;
+	}
+
+	private void publish(Long ticketId, TicketEvent.Type type, TicketSnapshot previous, TicketSnapshot current) {
+		bus.onTicketEvent(TicketEvent.builder()
+				.type(type)
+				.ticketId(ticketId)
+				.previous(previous)
+				.current(current)
+				.build());
+	}
+
+	private static TicketSnapshot status(Long statusId) {
+		return TicketSnapshot.builder()
+				.statusId(statusId)
+				.priorityId(1L)
+				.categoryId(1L)
+				.build();
+	}
+
+	private static List<Long> ticketIds(List<Sent> sent) {
+		return sent.stream().map(s -> s.event().getTicketId()).toList();
+	}
+
+	private record Sent(String name, TicketStreamEventResponse event) {
+	}
+
+	/**
+	 * Emitter que não escreve em resposta alguma: guarda nome e corpo de cada evento enviado.
+	 * Com {@code release}, cada envio espera a liberação, como um cliente que parou de ler.
+	 */
+	private static final class RecordingEmitter extends SseEmitter {
+
+		private static final Pattern EVENT_NAME = Pattern.compile("(?m)^event:(.*)$");
+
+		private final BlockingQueue<Sent> sent = new LinkedBlockingQueue<>();
+		private final CountDownLatch release;
+		private final CountDownLatch sending = new CountDownLatch(1);
+		private final CountDownLatch completed = new CountDownLatch(1);
+
+		private RecordingEmitter(CountDownLatch release) {
+			this.release = release;
+		}
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			sending.countDown();
+			if (release != null) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IOException(e);
+				}
+			}
+			StringBuilder text = new StringBuilder();
+			TicketStreamEventResponse event = null;
+			for (DataWithMediaType part : builder.build()) {
+				if (part.getData() instanceof TicketStreamEventResponse response) {
+					event = response;
+				} else {
+					text.append(part.getData());
+				}
+			}
+			Matcher name = EVENT_NAME.matcher(text);
+			sent.add(new Sent(name.find() ? name.group(1) : null, event));
+		}
+
+		@Override
+		public void complete() {
+			completed.countDown();
+			super.complete();
+		}
+
+		private List<Sent> take(int count) throws InterruptedException {
+			List<Sent> taken = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				Sent next = sent.poll(WAIT_SECONDS, TimeUnit.SECONDS);
+				assertNotNull(next, "expected " + count + " events, got " + taken.size());
+				taken.add(next);
+			}
+			return taken;
+		}
+
+		// Espera um pouco por algo que não deveria chegar
+		private Sent poll() throws InterruptedException {
+			return sent.poll(200, TimeUnit.MILLISECONDS);
+		}
+	}
+
+}